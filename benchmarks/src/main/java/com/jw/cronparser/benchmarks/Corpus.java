@@ -0,0 +1,25 @@
+package com.jw.cronparser.benchmarks;
+
+public enum Corpus {
+
+    SPARSE("0 0 0 29 2 ? *"),
+    DENSE("* * * * * ? *"),
+    QUARTER_HOURLY("0 0/15 * * * ? *"),
+    WORKDAYS("0 30 9 ? * MON-FRI *"),
+    LAST_DAY_OF_MONTH("0 0 12 L * ? *"),
+    LAST_WEEKDAY_OF_MONTH("0 0 12 LW * ? *"),
+    NEAREST_WEEKDAY("0 0 12 15W * ? *"),
+    LAST_FRIDAY("0 0 12 ? * 6L *"),
+    THIRD_MONDAY("0 0 12 ? * 2#3 *"),
+    MIXED("15,45 5-10/2 1-3 1-10 JAN-MAR,SEP ? 2020-2030");
+
+    private final String expression;
+
+    Corpus(String expression) {
+        this.expression = expression;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+}
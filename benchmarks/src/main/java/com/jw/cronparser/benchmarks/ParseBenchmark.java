@@ -0,0 +1,43 @@
+package com.jw.cronparser.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+    private static final int CACHE_SIZE = 1024;
+
+    @Param
+    private Corpus corpus;
+
+    private String expression;
+    private CronParser parser;
+    private CronParser cachedParser;
+
+    @Setup
+    public void setUp() {
+        expression = corpus.getExpression();
+        parser = new CronParser();
+        cachedParser = new CronParser(CACHE_SIZE);
+    }
+
+    @Benchmark
+    public CronObject parse() {
+        return parser.parse(expression);
+    }
+
+    @Benchmark
+    public CronObject parseCached() {
+        return cachedParser.parse(expression);
+    }
+}
@@ -0,0 +1,74 @@
+package com.jw.cronparser.benchmarks;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.searcher.BackwardSearcher;
+import com.jw.cronparser.searcher.ForwardSearcher;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final int INSTANT_COUNT = 1024;
+    private static final long SEED = 42;
+    private static final long FIRST_INSTANT = LocalDateTime.of(2000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final long LAST_INSTANT = LocalDateTime.of(2050, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    @Param
+    private Corpus corpus;
+
+    private ForwardSearcher forwardSearcher;
+    private BackwardSearcher backwardSearcher;
+    private LocalDateTime[] dateTimes;
+    private long[] epochSeconds;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        var cronObject = new CronParser().parse(corpus.getExpression());
+        forwardSearcher = new ForwardSearcher(cronObject);
+        backwardSearcher = new BackwardSearcher(cronObject);
+        dateTimes = new LocalDateTime[INSTANT_COUNT];
+        epochSeconds = new long[INSTANT_COUNT];
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < INSTANT_COUNT; i++) {
+            epochSeconds[i] = random.nextLong(FIRST_INSTANT, LAST_INSTANT);
+            dateTimes[i] = LocalDateTime.ofEpochSecond(epochSeconds[i], 0, ZoneOffset.UTC);
+        }
+    }
+
+    @Benchmark
+    public LocalDateTime nextFire() {
+        return forwardSearcher.findClosest(dateTimes[nextIndex()]);
+    }
+
+    @Benchmark
+    public LocalDateTime previousFire() {
+        return backwardSearcher.findClosest(dateTimes[nextIndex()]);
+    }
+
+    @Benchmark
+    public long nextFireEpochSecond() {
+        return forwardSearcher.findClosest(epochSeconds[nextIndex()]);
+    }
+
+    @Benchmark
+    public long previousFireEpochSecond() {
+        return backwardSearcher.findClosest(epochSeconds[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        index = (index + 1) & (INSTANT_COUNT - 1);
+        return index;
+    }
+}
@@ -0,0 +1,78 @@
+package com.jw.cronparser;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.jw.cronparser.domain.CompiledCron;
+import com.jw.cronparser.domain.CronFingerprint;
+import com.jw.cronparser.domain.CronObject;
+
+/**
+ * Shares one {@link CompiledCron} between expressions that compile to the same schedule. Interned objects keep their
+ * own expression text; compiled forms are held weakly and dropped once no interned object refers to them.
+ */
+public class CronInternPool {
+
+    private final CronParser parser;
+    private final ConcurrentMap<CronFingerprint, Entry> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<CompiledCron> collected = new ReferenceQueue<>();
+
+    public CronInternPool() {
+        this(new CronParser());
+    }
+
+    public CronInternPool(CronParser parser) {
+        this.parser = parser;
+    }
+
+    public CronObject parse(String expression) {
+        return intern(parser.parse(expression));
+    }
+
+    public CronObject parse(String expression, String hashKey) {
+        return intern(parser.parse(expression, hashKey));
+    }
+
+    public CronObject intern(CronObject cronObject) {
+        expungeCollected();
+        CronFingerprint fingerprint = CronFingerprint.of(cronObject);
+        while (true) {
+            Entry entry = pool.get(fingerprint);
+            CompiledCron shared = entry != null ? entry.get() : null;
+            if (shared != null) {
+                return cronObject.withCompiledCron(shared);
+            }
+            Entry created = new Entry(fingerprint, cronObject.getCompiledCron(), collected);
+            if (entry == null ? pool.putIfAbsent(fingerprint, created) == null : pool.replace(fingerprint, entry, created)) {
+                return cronObject;
+            }
+        }
+    }
+
+    public int size() {
+        expungeCollected();
+        return pool.size();
+    }
+
+    public void clear() {
+        pool.clear();
+    }
+
+    private void expungeCollected() {
+        for (Entry entry = (Entry) collected.poll(); entry != null; entry = (Entry) collected.poll()) {
+            pool.remove(entry.fingerprint, entry);
+        }
+    }
+
+    private static final class Entry extends WeakReference<CompiledCron> {
+
+        private final CronFingerprint fingerprint;
+
+        private Entry(CronFingerprint fingerprint, CompiledCron compiledCron, ReferenceQueue<CompiledCron> queue) {
+            super(compiledCron, queue);
+            this.fingerprint = fingerprint;
+        }
+    }
+}
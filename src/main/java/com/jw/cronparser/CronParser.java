@@ -1,29 +1,90 @@
 package com.jw.cronparser;
 
-import com.jw.cronparser.domain.*;
+import java.util.Objects;
+
+import com.jw.cronparser.domain.CronExpressionParser;
+import com.jw.cronparser.domain.CronObject;
 
 public class CronParser {
 
-    private static final int TOKEN_COUNT = 7;
-    private static final int INDEX_SECONDS = 0;
-    private static final int INDEX_MINUTES = 1;
-    private static final int INDEX_HOURS = 2;
-    private static final int INDEX_DAYS_OF_MONTH = 3;
-    private static final int INDEX_MONTHS = 4;
-    private static final int INDEX_DAYS_OF_WEEK = 5;
-    private static final int INDEX_YEARS = 6;
+    private static final char SEPARATOR = ' ';
+    private static final char HASH = 'H';
+    private static final char HASH_KEY_SEPARATOR = '\n';
+
+    private final CronParserCache cache;
+
+    public CronParser() {
+        this.cache = null;
+    }
+
+    /**
+     * Creates a parser that caches up to {@code cacheSize} parsed expressions. The cache is segmented and evicts the
+     * least recently used entry of a segment, so an entry may be evicted while older entries of other segments remain.
+     */
+    public CronParser(int cacheSize) {
+        this.cache = new CronParserCache(cacheSize);
+    }
 
     public CronObject parse(String expression) {
-        String[] input = expression.replaceAll("\\s+", " ").trim().split("\\s");
-        assert input.length == TOKEN_COUNT;
-        return CronObject.builder()
-                .seconds(CronSeconds.parse(input[INDEX_SECONDS]))
-                .minutes(CronMinutes.parse(input[INDEX_MINUTES]))
-                .hours(CronHours.parse(input[INDEX_HOURS]))
-                .daysOfMonth(CronDaysOfMonth.parse(input[INDEX_DAYS_OF_MONTH]))
-                .months(CronMonths.parse(input[INDEX_MONTHS]))
-                .daysOfWeek(CronDaysOfWeek.parse(input[INDEX_DAYS_OF_WEEK]))
-                .years(CronYears.parse(input[INDEX_YEARS]))
-                .build();
+        if (cache != null) {
+            return cache.get(normalize(expression), CronExpressionParser::parse);
+        }
+        return CronExpressionParser.parse(expression);
+    }
+
+    public CronObject parse(String expression, String hashKey) {
+        Objects.requireNonNull(hashKey);
+        if (expression.indexOf(HASH) < 0) {
+            return parse(expression);
+        }
+        if (cache != null) {
+            String normalized = normalize(expression);
+            return cache.get(normalized + HASH_KEY_SEPARATOR + hashKey, key -> CronExpressionParser.parse(normalized, hashKey));
+        }
+        return CronExpressionParser.parse(expression, hashKey);
+    }
+
+    public long getCacheHitCount() {
+        return cache != null ? cache.getHitCount() : 0;
+    }
+
+    public long getCacheMissCount() {
+        return cache != null ? cache.getMissCount() : 0;
+    }
+
+    public long getCacheEvictionCount() {
+        return cache != null ? cache.getEvictionCount() : 0;
+    }
+
+    private static String normalize(String expression) {
+        String stripped = expression.strip();
+        if (isNormalized(stripped)) {
+            return stripped;
+        }
+        StringBuilder result = new StringBuilder(stripped.length());
+        boolean pendingSeparator = false;
+        for (int i = 0; i < stripped.length(); i++) {
+            char c = stripped.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSeparator = true;
+            } else {
+                if (pendingSeparator) {
+                    result.append(SEPARATOR);
+                    pendingSeparator = false;
+                }
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isNormalized(String expression) {
+        for (int i = 0; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c) && (c != SEPARATOR || expression.charAt(i - 1) == SEPARATOR)) {
+                return false;
+            }
+        }
+        return true;
     }
 }
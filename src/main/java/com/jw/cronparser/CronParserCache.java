@@ -0,0 +1,94 @@
+package com.jw.cronparser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.jw.cronparser.domain.CronObject;
+
+/**
+ * Bounded cache of parsed expressions, split into up to 16 independently locked segments whose capacities sum to the
+ * maximum size. Eviction is LRU within each segment rather than across the whole cache.
+ */
+class CronParserCache {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    CronParserCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maximumSize);
+        }
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+        int segmentSize = maximumSize / segmentCount;
+        int remainder = maximumSize % segmentCount;
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(i < remainder ? segmentSize + 1 : segmentSize);
+        }
+    }
+
+    CronObject get(String expression, Function<String, CronObject> parser) {
+        Segment segment = segmentFor(expression);
+        CronObject cached;
+        synchronized (segment) {
+            cached = segment.get(expression);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        CronObject parsed = parser.apply(expression);
+        synchronized (segment) {
+            CronObject raced = segment.putIfAbsent(expression, parsed);
+            return raced != null ? raced : parsed;
+        }
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment segmentFor(String expression) {
+        int hash = expression.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    private final class Segment extends LinkedHashMap<String, CronObject> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+
+        private Segment(int maximumSize) {
+            super(16, LOAD_FACTOR, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CronObject> eldest) {
+            if (size() > maximumSize) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
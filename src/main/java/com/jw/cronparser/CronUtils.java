@@ -5,7 +5,6 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Year;
 import java.util.OptionalInt;
-import java.util.Set;
 
 public class CronUtils {
 
@@ -19,55 +18,61 @@ public class CronUtils {
     public static final int MAX_HOUR = 23;
     public static final int MAX_MINUTE = 59;
     public static final int MAX_SECOND = 59;
+    public static final int MILLIS_PER_SECOND = 1000;
+    public static final int SECONDS_PER_MINUTE = 60;
+    public static final int SECONDS_PER_HOUR = 3600;
+    public static final int SECONDS_PER_DAY = 86400;
+    public static final long MIN_EPOCH_SECOND = toEpochDay(MIN_YEAR, 1, 1) * SECONDS_PER_DAY;
+    public static final long MAX_EPOCH_SECOND = toEpochDay(MAX_YEAR + 1, 1, 1) * SECONDS_PER_DAY - 1;
 
-    private static final Set<Integer> WEEKDAYS = Set.of(2, 3, 4, 5, 6);
+    private static final int DAYS_PER_ERA = 146097;
+    private static final int DAYS_0000_TO_1970 = 719468;
+    private static final int PACKED_DAY_BITS = 5;
+    private static final int PACKED_MONTH_BITS = 4;
 
     private CronUtils() {
 
     }
 
     public static int dayOfWeekDiff(DayOfWeek start, DayOfWeek end) {
-        if (end.getValue() >= start.getValue()) {
-            return end.getValue() - start.getValue();
-        } else {
-            return WEEK_LENGTH - start.getValue() + end.getValue();
-        }
+        return dayOfWeekDiff(dayOfWeekToIndex(start), dayOfWeekToIndex(end));
     }
 
     public static int dayOfWeekDiff(int start, int end) {
-        return dayOfWeekDiff(indexToDayOfWeek(start), indexToDayOfWeek(end));
+        return Math.floorMod(end - start, WEEK_LENGTH);
     }
 
     public static int closestWeekDay(LocalDateTime current) {
-        int day = current.getDayOfMonth();
-        if (WEEKDAYS.contains(current.getDayOfWeek().getValue() + 1)) {
+        int year = current.getYear();
+        int month = current.getMonthValue();
+        return closestWeekDay(current.getDayOfMonth(), firstDayOfWeekOfMonth(year, month), lengthOfMonth(year, month));
+    }
+
+    public static int closestWeekDay(int day, int dayOfWeekOfFirst, int lastDay) {
+        int dayOfWeek = (dayOfWeekOfFirst + day - 2) % WEEK_LENGTH + 1;
+        if (dayOfWeek > 1 && dayOfWeek < WEEK_LENGTH) {
             return day;
+        } else if (dayOfWeek == WEEK_LENGTH) {
+            return day - 1 >= 1 ? day - 1 : day + 2;
         } else {
-            if (current.getDayOfWeek().equals(DayOfWeek.SATURDAY)) {
-                return day - 1 >= 1 ? day - 1 : day + 2;
-            } else {
-                int lastDay = current.getMonth().length(Year.isLeap(current.getYear()));
-                return day + 1 <= lastDay ? day + 1 : day - 2;
-            }
+            return day + 1 <= lastDay ? day + 1 : day - 2;
         }
     }
 
     public static OptionalInt nthDayOfWeek(int n, DayOfWeek dayOfWeek, Month month, int year) {
         assert n >= 0 && n <= MAX_WEEKS;
+        int lastDay = lengthOfMonth(year, month.getValue());
+        int first = 1 + dayOfWeekDiff(firstDayOfWeekOfMonth(year, month.getValue()), dayOfWeekToIndex(dayOfWeek));
         if (n > 0) {
-            LocalDateTime theFirst = LocalDateTime.of(year, month, 1, 0, 0);
-            int diff = dayOfWeekDiff(theFirst.getDayOfWeek(), dayOfWeek);
-            int result = theFirst.plusDays(diff + WEEK_LENGTH * (n - 1)).getDayOfMonth();
-            return result <= month.length(Year.isLeap(year)) ? OptionalInt.of(result) : OptionalInt.empty();
+            int result = first + WEEK_LENGTH * (n - 1);
+            return result <= lastDay ? OptionalInt.of(result) : OptionalInt.empty();
         } else {
-            LocalDateTime theLast = LocalDateTime.of(year, month, month.length(Year.isLeap(year)), 0, 0);
-            int diff = dayOfWeekDiff(dayOfWeek, theLast.getDayOfWeek());
-            return OptionalInt.of(theLast.minusDays(diff).getDayOfMonth());
+            return OptionalInt.of(first + WEEK_LENGTH * ((lastDay - first) / WEEK_LENGTH));
         }
     }
 
     public static int lastDayOfMonth(LocalDateTime dateTime, int offset) {
-        return dateTime.getMonth().length(Year.isLeap(dateTime.getYear())) - Math.abs(offset);
+        return lengthOfMonth(dateTime.getYear(), dateTime.getMonthValue()) - Math.abs(offset);
     }
 
     public static DayOfWeek indexToDayOfWeek(int i) {
@@ -83,4 +88,79 @@ public class CronUtils {
         int day = index <= 0 ? lastDayOfMonth(dateTime, index) : index;
         return weekday ? closestWeekDay(dateTime.withDayOfMonth(day)) : day;
     }
+
+    public static int lengthOfMonth(int year, int month) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            return Month.of(month).length(Year.isLeap(year));
+        }
+        return MonthTable.LENGTHS[MonthTable.index(year, month)];
+    }
+
+    public static int firstDayOfWeekOfMonth(int year, int month) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            return dayOfWeekOfEpochDay(toEpochDay(year, month, 1));
+        }
+        return MonthTable.FIRST_DAYS_OF_WEEK[MonthTable.index(year, month)];
+    }
+
+    public static int dayOfWeekOfEpochDay(long epochDay) {
+        return Math.floorMod(epochDay + 4, WEEK_LENGTH) + 1;
+    }
+
+    public static long toEpochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    public static long toEpochSecond(int year, int month, int day, int hour, int minute, int second) {
+        return toEpochDay(year, month, day) * SECONDS_PER_DAY + hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE + second;
+    }
+
+    public static int toPackedDate(long epochDay) {
+        long shifted = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+        long dayOfEra = shifted - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        return (year << (PACKED_MONTH_BITS + PACKED_DAY_BITS)) | (month << PACKED_DAY_BITS) | day;
+    }
+
+    public static int packedYear(int packedDate) {
+        return packedDate >> (PACKED_MONTH_BITS + PACKED_DAY_BITS);
+    }
+
+    public static int packedMonth(int packedDate) {
+        return (packedDate >>> PACKED_DAY_BITS) & ((1 << PACKED_MONTH_BITS) - 1);
+    }
+
+    public static int packedDay(int packedDate) {
+        return packedDate & ((1 << PACKED_DAY_BITS) - 1);
+    }
+
+    private static final class MonthTable {
+
+        private static final byte[] LENGTHS = new byte[(MAX_YEAR - MIN_YEAR + 1) * MAX_MONTH];
+        private static final byte[] FIRST_DAYS_OF_WEEK = new byte[LENGTHS.length];
+
+        static {
+            for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+                for (int month = 1; month <= MAX_MONTH; month++) {
+                    LENGTHS[index(year, month)] = (byte) Month.of(month).length(Year.isLeap(year));
+                    FIRST_DAYS_OF_WEEK[index(year, month)] = (byte) dayOfWeekOfEpochDay(toEpochDay(year, month, 1));
+                }
+            }
+        }
+
+        private static int index(int year, int month) {
+            return (year - MIN_YEAR) * MAX_MONTH + month - 1;
+        }
+    }
 }
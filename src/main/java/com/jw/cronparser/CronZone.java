@@ -0,0 +1,182 @@
+package com.jw.cronparser;
+
+import static com.jw.cronparser.CronUtils.*;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class CronZone {
+
+    public static final int TRANSITION_WINDOW = 2 * SECONDS_PER_DAY;
+
+    private static final ConcurrentMap<ZoneId, CronZone> ZONES = new ConcurrentHashMap<>();
+    private static final int FIRST_YEAR = MIN_YEAR - 1;
+    private static final int LAST_YEAR = MAX_YEAR + 1;
+    private static final int UNKNOWN_OFFSET = Integer.MIN_VALUE;
+
+    private final ZoneRules rules;
+    private final boolean fixedOffset;
+    private final int offset;
+    private final YearTransitions[] years;
+
+    private CronZone(ZoneId zone) {
+        this.rules = zone.getRules();
+        this.fixedOffset = rules.isFixedOffset();
+        this.offset = fixedOffset ? rules.getOffset(Instant.EPOCH).getTotalSeconds() : 0;
+        this.years = fixedOffset ? null : new YearTransitions[LAST_YEAR - FIRST_YEAR + 1];
+    }
+
+    public static CronZone of(ZoneId zone) {
+        return ZONES.computeIfAbsent(zone, CronZone::new);
+    }
+
+    public boolean isFixedOffset() {
+        return fixedOffset;
+    }
+
+    public int offsetAt(long epochSecond) {
+        if (fixedOffset) {
+            return offset;
+        }
+        int year = yearOf(epochSecond);
+        if (year < FIRST_YEAR || year > LAST_YEAR) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        return transitions(year).offsetAt(epochSecond);
+    }
+
+    public long toLocal(long epochSecond) {
+        return epochSecond + offsetAt(epochSecond);
+    }
+
+    public long earlierInstant(long localEpochSecond) {
+        if (fixedOffset) {
+            return localEpochSecond - offset;
+        }
+        int stableOffset = stableOffset(localEpochSecond - TRANSITION_WINDOW, localEpochSecond + TRANSITION_WINDOW);
+        if (stableOffset != UNKNOWN_OFFSET) {
+            return localEpochSecond - stableOffset;
+        }
+        int offsetBefore = offsetAt(localEpochSecond - TRANSITION_WINDOW);
+        int offsetAfter = offsetAt(localEpochSecond + TRANSITION_WINDOW);
+        long earlier = localEpochSecond - offsetBefore;
+        if (offsetBefore == offsetAfter || offsetAt(earlier) == offsetBefore) {
+            return earlier;
+        }
+        long later = localEpochSecond - offsetAfter;
+        return offsetAt(later) == offsetAfter ? later : earlier;
+    }
+
+    public long laterInstant(long localEpochSecond) {
+        if (fixedOffset) {
+            return localEpochSecond - offset;
+        }
+        int stableOffset = stableOffset(localEpochSecond - TRANSITION_WINDOW, localEpochSecond + TRANSITION_WINDOW);
+        if (stableOffset != UNKNOWN_OFFSET) {
+            return localEpochSecond - stableOffset;
+        }
+        int offsetBefore = offsetAt(localEpochSecond - TRANSITION_WINDOW);
+        int offsetAfter = offsetAt(localEpochSecond + TRANSITION_WINDOW);
+        long later = localEpochSecond - offsetAfter;
+        if (offsetBefore == offsetAfter || offsetAt(later) == offsetAfter) {
+            return later;
+        }
+        return localEpochSecond - offsetBefore;
+    }
+
+    public boolean isGap(long localEpochSecond) {
+        if (fixedOffset || stableOffset(localEpochSecond - TRANSITION_WINDOW, localEpochSecond + TRANSITION_WINDOW) != UNKNOWN_OFFSET) {
+            return false;
+        }
+        int offsetBefore = offsetAt(localEpochSecond - TRANSITION_WINDOW);
+        int offsetAfter = offsetAt(localEpochSecond + TRANSITION_WINDOW);
+        return offsetBefore < offsetAfter && offsetAt(localEpochSecond - offsetBefore) != offsetBefore
+                && offsetAt(localEpochSecond - offsetAfter) != offsetAfter;
+    }
+
+    public boolean isWithinGapShift(long epochSecond) {
+        if (fixedOffset || stableOffset(epochSecond - TRANSITION_WINDOW, epochSecond) != UNKNOWN_OFFSET) {
+            return false;
+        }
+        int offsetBefore = offsetAt(epochSecond - TRANSITION_WINDOW);
+        int offsetAfter = offsetAt(epochSecond);
+        return offsetBefore < offsetAfter && offsetAt(epochSecond - (offsetAfter - offsetBefore)) != offsetAfter;
+    }
+
+    private int stableOffset(long from, long to) {
+        int fromYear = yearOf(from);
+        int toYear = yearOf(to);
+        if (fromYear < FIRST_YEAR || toYear > LAST_YEAR) {
+            return UNKNOWN_OFFSET;
+        }
+        int result = transitions(fromYear).offsetAt(from);
+        for (int year = fromYear; year <= toYear; year++) {
+            YearTransitions transitions = transitions(year);
+            if (year > fromYear && transitions.startOffset != result || transitions.nextInstant(from) <= to) {
+                return UNKNOWN_OFFSET;
+            }
+        }
+        return result;
+    }
+
+    private static int yearOf(long epochSecond) {
+        return packedYear(toPackedDate(Math.floorDiv(epochSecond, SECONDS_PER_DAY)));
+    }
+
+    private YearTransitions transitions(int year) {
+        YearTransitions result = years[year - FIRST_YEAR];
+        if (result == null) {
+            result = new YearTransitions(rules, year);
+            years[year - FIRST_YEAR] = result;
+        }
+        return result;
+    }
+
+    private static final class YearTransitions {
+
+        private final int startOffset;
+        private final long[] instants;
+        private final int[] offsets;
+
+        private YearTransitions(ZoneRules rules, int year) {
+            long start = toEpochDay(year, 1, 1) * SECONDS_PER_DAY;
+            long end = toEpochDay(year + 1, 1, 1) * SECONDS_PER_DAY;
+            long[] transitionInstants = new long[0];
+            int[] transitionOffsets = new int[0];
+            this.startOffset = rules.getOffset(Instant.ofEpochSecond(start)).getTotalSeconds();
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(start));
+            while (transition != null && transition.toEpochSecond() < end) {
+                int count = transitionInstants.length;
+                transitionInstants = Arrays.copyOf(transitionInstants, count + 1);
+                transitionOffsets = Arrays.copyOf(transitionOffsets, count + 1);
+                transitionInstants[count] = transition.toEpochSecond();
+                transitionOffsets[count] = transition.getOffsetAfter().getTotalSeconds();
+                transition = rules.nextTransition(transition.getInstant());
+            }
+            this.instants = transitionInstants;
+            this.offsets = transitionOffsets;
+        }
+
+        private long nextInstant(long epochSecond) {
+            for (long instant : instants) {
+                if (instant > epochSecond) {
+                    return instant;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+
+        private int offsetAt(long epochSecond) {
+            int result = startOffset;
+            for (int i = 0; i < instants.length && instants[i] <= epochSecond; i++) {
+                result = offsets[i];
+            }
+            return result;
+        }
+    }
+}
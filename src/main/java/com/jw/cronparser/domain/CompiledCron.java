@@ -0,0 +1,612 @@
+package com.jw.cronparser.domain;
+
+import static com.jw.cronparser.CronUtils.*;
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Set;
+
+import com.jw.cronparser.searcher.BackwardSearcher;
+import com.jw.cronparser.searcher.ForwardSearcher;
+
+public final class CompiledCron {
+
+    private static final int YEAR_COUNT = MAX_YEAR - MIN_YEAR + 1;
+    private static final int YEAR_WORDS = (YEAR_COUNT + Long.SIZE - 1) / Long.SIZE;
+    private static final int ALL_DAYS_OF_MONTH = (int) ((1L << MAX_DAY_OF_MONTH) - 1);
+    private static final int ALL_DAYS_OF_WEEK = (1 << MAX_DAY_OF_WEEK) - 1;
+    private static final int WEEKLY_PATTERN = 0x10204081;
+    private static final int MIN_MONTH_LENGTH = 28;
+    private static final int MONTH_LENGTHS = MAX_DAY_OF_MONTH - MIN_MONTH_LENGTH + 1;
+    private static final int HOURS_WORD = 2;
+    private static final int DAYS_OF_MONTH_WORD = 3;
+    private static final int WEEKDAYS_WORD = 4;
+    private static final int YEARS_WORD = 5;
+    public static final int ENCODED_LENGTH = YEARS_WORD + YEAR_WORDS;
+    private static final int NTH_DAYS_OF_WEEK_SHIFT = 24;
+    private static final int LAST_WEEKDAY_SHIFT = 59;
+    private static final int LAST_DAYS_OF_MONTH_SHIFT = 31;
+    private static final int DAYS_OF_WEEK_SHIFT = 12;
+    private static final int LAST_DAYS_OF_WEEK_SHIFT = 19;
+    private static final int WEEKDAYS_OF_MONTH_SHIFT = 26;
+
+    private final long seconds;
+    private final long minutes;
+    private final int hours;
+    private final int daysOfMonth;
+    private final int lastDaysOfMonth;
+    private final int weekdaysOfMonth;
+    private final boolean lastWeekdayOfMonth;
+    private final int months;
+    private final int daysOfWeek;
+    private final long nthDaysOfWeek;
+    private final int lastDaysOfWeek;
+    private final LongBuffer words;
+    private final int[] resolvedDays;
+    private long firstFire = MIN_EPOCH_SECOND;
+    private long lastFire = MAX_EPOCH_SECOND;
+
+    private CompiledCron(CronObject cronObject) {
+        this.seconds = expand(cronObject.getSeconds(), 0, MAX_SECOND);
+        this.minutes = expand(cronObject.getMinutes(), 0, MAX_MINUTE);
+        this.hours = (int) expand(cronObject.getHours(), 0, MAX_HOUR);
+        this.months = (int) expand(cronObject.getMonths(), 1, MAX_MONTH);
+
+        int plainDays = 0;
+        int lastDays = 0;
+        int weekdays = 0;
+        boolean lastWeekday = false;
+        for (CronDaysOfMonth cronDay : cronObject.getDaysOfMonth()) {
+            if (cronDay.isAny()) {
+                plainDays = ALL_DAYS_OF_MONTH;
+            } else if (cronDay.getStart() <= 0) {
+                if (cronDay.isClosestWeekday()) {
+                    lastWeekday = true;
+                } else {
+                    lastDays |= 1 << -cronDay.getStart();
+                }
+            } else if (cronDay.isClosestWeekday()) {
+                weekdays |= 1 << (cronDay.getStart() - 1);
+            } else {
+                plainDays |= (int) expand(Set.of(cronDay), 1, MAX_DAY_OF_MONTH);
+            }
+        }
+        this.daysOfMonth = plainDays;
+        this.lastDaysOfMonth = lastDays;
+        this.weekdaysOfMonth = weekdays;
+        this.lastWeekdayOfMonth = lastWeekday;
+
+        int plainDaysOfWeek = 0;
+        long nthDays = 0;
+        int lastDaysOfWeekMask = 0;
+        for (CronDaysOfWeek cronDay : cronObject.getDaysOfWeek()) {
+            if (cronDay.isAny()) {
+                plainDaysOfWeek = ALL_DAYS_OF_WEEK;
+                continue;
+            }
+            int matching = 0;
+            for (int dayOfWeek : cronDay.getMatchingDaysOfWeek()) {
+                matching |= 1 << (dayOfWeek - 1);
+            }
+            if (!cronDay.hasOrdinal()) {
+                plainDaysOfWeek |= matching;
+            } else if (cronDay.getOrdinal().equals(CronDaysOfWeek.LAST_DAY_OF_WEEK)) {
+                lastDaysOfWeekMask |= matching;
+            } else {
+                nthDays |= (long) matching << (WEEK_LENGTH * (cronDay.getOrdinal() - 1));
+            }
+        }
+        this.daysOfWeek = plainDaysOfWeek;
+        this.nthDaysOfWeek = nthDays;
+        this.lastDaysOfWeek = lastDaysOfWeekMask;
+        long[] encoded = new long[ENCODED_LENGTH];
+        encoded[0] = seconds;
+        encoded[1] = minutes;
+        encoded[HOURS_WORD] = hours
+                | nthDaysOfWeek << NTH_DAYS_OF_WEEK_SHIFT
+                | (lastWeekdayOfMonth ? 1L : 0L) << LAST_WEEKDAY_SHIFT;
+        encoded[DAYS_OF_MONTH_WORD] = daysOfMonth
+                | (long) lastDaysOfMonth << LAST_DAYS_OF_MONTH_SHIFT;
+        encoded[WEEKDAYS_WORD] = months
+                | (long) daysOfWeek << DAYS_OF_WEEK_SHIFT
+                | (long) lastDaysOfWeek << LAST_DAYS_OF_WEEK_SHIFT
+                | (long) weekdaysOfMonth << WEEKDAYS_OF_MONTH_SHIFT;
+        System.arraycopy(expandYears(cronObject.getYears()), 0, encoded, YEARS_WORD, YEAR_WORDS);
+        this.words = LongBuffer.wrap(encoded);
+        this.resolvedDays = resolveDays();
+    }
+
+    private CompiledCron(long[] words, int offset) {
+        long hoursWord = words[offset + HOURS_WORD];
+        long daysWord = words[offset + DAYS_OF_MONTH_WORD];
+        long weekdaysWord = words[offset + WEEKDAYS_WORD];
+        this.seconds = words[offset];
+        this.minutes = words[offset + 1];
+        this.hours = hours(hoursWord);
+        this.nthDaysOfWeek = nthDaysOfWeek(hoursWord);
+        this.lastWeekdayOfMonth = lastWeekdayOfMonth(hoursWord);
+        this.daysOfMonth = daysOfMonth(daysWord);
+        this.lastDaysOfMonth = lastDaysOfMonth(daysWord);
+        this.months = months(weekdaysWord);
+        this.daysOfWeek = daysOfWeek(weekdaysWord);
+        this.lastDaysOfWeek = lastDaysOfWeek(weekdaysWord);
+        this.weekdaysOfMonth = weekdaysOfMonth(weekdaysWord);
+        this.words = LongBuffer.wrap(Arrays.copyOfRange(words, offset, offset + ENCODED_LENGTH));
+        this.resolvedDays = resolveDays();
+    }
+
+    public static CompiledCron compile(CronObject cronObject) {
+        CompiledCron compiledCron = new CompiledCron(cronObject);
+        compiledCron.computeBounds();
+        return compiledCron;
+    }
+
+    public static CompiledCron decode(long[] words) {
+        return decode(words, 0);
+    }
+
+    public static CompiledCron decode(long[] words, int offset) {
+        CompiledCron compiledCron = new CompiledCron(words, offset);
+        compiledCron.computeBounds();
+        return compiledCron;
+    }
+
+    public static boolean matches(LongBuffer words, int offset, long epochSecond) {
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND) {
+            return false;
+        }
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) (epochSecond - epochDay * SECONDS_PER_DAY);
+        if ((words.get(offset) >>> (secondOfDay % SECONDS_PER_MINUTE) & 1) == 0
+                || (words.get(offset + 1) >>> (secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE) & 1) == 0
+                || (words.get(offset + HOURS_WORD) >>> (secondOfDay / SECONDS_PER_HOUR) & 1) == 0) {
+            return false;
+        }
+        int date = toPackedDate(epochDay);
+        int year = packedYear(date);
+        int month = packedMonth(date);
+        if ((words.get(offset + WEEKDAYS_WORD) >>> (month - 1) & 1) == 0 || !hasYear(words, offset, year)) {
+            return false;
+        }
+        return hasDay(daysOfMonth(words, offset, year, month), packedDay(date));
+    }
+
+    public long[] encode() {
+        long[] words = new long[ENCODED_LENGTH];
+        encode(words, 0);
+        return words;
+    }
+
+    public void encode(long[] words, int offset) {
+        this.words.get(0, words, offset, ENCODED_LENGTH);
+    }
+
+    long getSeconds() {
+        return seconds;
+    }
+
+    long getMinutes() {
+        return minutes;
+    }
+
+    int getHours() {
+        return hours;
+    }
+
+    int getDaysOfMonth() {
+        return daysOfMonth;
+    }
+
+    int getLastDaysOfMonth() {
+        return lastDaysOfMonth;
+    }
+
+    int getWeekdaysOfMonth() {
+        return weekdaysOfMonth;
+    }
+
+    boolean isLastWeekdayOfMonth() {
+        return lastWeekdayOfMonth;
+    }
+
+    int getMonths() {
+        return months;
+    }
+
+    int getDaysOfWeek() {
+        return daysOfWeek;
+    }
+
+    long getNthDaysOfWeek() {
+        return nthDaysOfWeek;
+    }
+
+    int getLastDaysOfWeek() {
+        return lastDaysOfWeek;
+    }
+
+    public boolean isSatisfiable() {
+        return firstFire != NO_FIRE;
+    }
+
+    public long getFirstFire() {
+        return firstFire;
+    }
+
+    public long getLastFire() {
+        return lastFire;
+    }
+
+    public boolean hasSecond(int second) {
+        return nextSecond(second) == second;
+    }
+
+    public int nextSecond(int from) {
+        return next(seconds, from);
+    }
+
+    public int previousSecond(int from) {
+        return previous(seconds, from);
+    }
+
+    public boolean hasMinute(int minute) {
+        return nextMinute(minute) == minute;
+    }
+
+    public int nextMinute(int from) {
+        return next(minutes, from);
+    }
+
+    public int previousMinute(int from) {
+        return previous(minutes, from);
+    }
+
+    public boolean hasHour(int hour) {
+        return nextHour(hour) == hour;
+    }
+
+    public int nextHour(int from) {
+        return next(hours, from);
+    }
+
+    public int previousHour(int from) {
+        return previous(hours, from);
+    }
+
+    public boolean hasMonth(int month) {
+        return nextMonth(month) == month;
+    }
+
+    public int nextMonth(int from) {
+        return nextMonth(months, from);
+    }
+
+    public int previousMonth(int from) {
+        return previousMonth(months, from);
+    }
+
+    public boolean hasYear(int year) {
+        return nextYear(year) == year;
+    }
+
+    public int nextYear(int from) {
+        return nextYear(words, 0, from);
+    }
+
+    public int previousYear(int from) {
+        return previousYear(words, 0, from);
+    }
+
+    public int daysOfMonth(int year, int month) {
+        int lastDay = lengthOfMonth(year, month);
+        if (resolvedDays == null) {
+            return daysOfMonth & (int) ((1L << lastDay) - 1);
+        }
+        return resolvedDays[(firstDayOfWeekOfMonth(year, month) - 1) * MONTH_LENGTHS + lastDay - MIN_MONTH_LENGTH];
+    }
+
+    public int resolveDaysOfMonth(int year, int month) {
+        return resolveDays(lengthOfMonth(year, month), firstDayOfWeekOfMonth(year, month));
+    }
+
+    private int[] resolveDays() {
+        if (lastDaysOfMonth == 0 && weekdaysOfMonth == 0 && !lastWeekdayOfMonth
+                && daysOfWeek == ALL_DAYS_OF_WEEK && nthDaysOfWeek == 0 && lastDaysOfWeek == 0) {
+            return null;
+        }
+        int[] result = new int[WEEK_LENGTH * MONTH_LENGTHS];
+        for (int firstDayOfWeek = 1; firstDayOfWeek <= WEEK_LENGTH; firstDayOfWeek++) {
+            for (int lastDay = MIN_MONTH_LENGTH; lastDay <= MAX_DAY_OF_MONTH; lastDay++) {
+                result[(firstDayOfWeek - 1) * MONTH_LENGTHS + lastDay - MIN_MONTH_LENGTH] = resolveDays(lastDay, firstDayOfWeek);
+            }
+        }
+        return result;
+    }
+
+    private int resolveDays(int lastDay, int firstDayOfWeek) {
+        return resolveDays(daysOfMonth, lastDaysOfMonth, weekdaysOfMonth, lastWeekdayOfMonth, daysOfWeek, lastDaysOfWeek, nthDaysOfWeek,
+                lastDay, firstDayOfWeek);
+    }
+
+    public static int daysOfMonth(LongBuffer words, int offset, int year, int month) {
+        long hoursWord = words.get(offset + HOURS_WORD);
+        long daysWord = words.get(offset + DAYS_OF_MONTH_WORD);
+        long weekdaysWord = words.get(offset + WEEKDAYS_WORD);
+        return resolveDays(daysOfMonth(daysWord), lastDaysOfMonth(daysWord), weekdaysOfMonth(weekdaysWord), lastWeekdayOfMonth(hoursWord),
+                daysOfWeek(weekdaysWord), lastDaysOfWeek(weekdaysWord), nthDaysOfWeek(hoursWord),
+                lengthOfMonth(year, month), firstDayOfWeekOfMonth(year, month));
+    }
+
+    private static int resolveDays(int daysOfMonth, int lastDaysOfMonth, int weekdaysOfMonth, boolean lastWeekdayOfMonth,
+                                   int daysOfWeek, int lastDaysOfWeek, long nthDaysOfWeek, int lastDay, int firstDayOfWeek) {
+        int monthDays = (int) ((1L << lastDay) - 1);
+
+        int byDayOfMonth = daysOfMonth;
+        for (int offsets = lastDaysOfMonth; offsets != 0; offsets &= offsets - 1) {
+            int day = lastDay - Integer.numberOfTrailingZeros(offsets);
+            if (day >= 1) {
+                byDayOfMonth |= 1 << (day - 1);
+            }
+        }
+        for (int days = weekdaysOfMonth; days != 0; days &= days - 1) {
+            int day = Integer.numberOfTrailingZeros(days) + 1;
+            if (day <= lastDay) {
+                byDayOfMonth |= 1 << (closestWeekDay(day, firstDayOfWeek, lastDay) - 1);
+            }
+        }
+        if (lastWeekdayOfMonth) {
+            byDayOfMonth |= 1 << (closestWeekDay(lastDay, firstDayOfWeek, lastDay) - 1);
+        }
+
+        int byDayOfWeek = 0;
+        for (int dayOfWeek = 1; dayOfWeek <= WEEK_LENGTH; dayOfWeek++) {
+            int first = 1 + Math.floorMod(dayOfWeek - firstDayOfWeek, WEEK_LENGTH);
+            int bit = 1 << (dayOfWeek - 1);
+            if ((daysOfWeek & bit) != 0) {
+                byDayOfWeek |= WEEKLY_PATTERN << (first - 1);
+            }
+            if ((lastDaysOfWeek & bit) != 0) {
+                byDayOfWeek |= 1 << (first - 1 + WEEK_LENGTH * ((lastDay - first) / WEEK_LENGTH));
+            }
+            for (int ordinal = 1; ordinal <= MAX_WEEKS; ordinal++) {
+                if ((nthDaysOfWeek & ((long) bit << (WEEK_LENGTH * (ordinal - 1)))) != 0) {
+                    int day = first + WEEK_LENGTH * (ordinal - 1);
+                    byDayOfWeek |= day <= lastDay ? 1 << (day - 1) : 0;
+                }
+            }
+        }
+        return byDayOfMonth & byDayOfWeek & monthDays;
+    }
+
+    public long countFires(long fromEpochSecond, long toEpochSecond) {
+        if (firstFire == NO_FIRE) {
+            return 0;
+        }
+        long from = Math.max(fromEpochSecond, firstFire);
+        long to = Math.min(toEpochSecond, lastFire + 1);
+        if (to <= from) {
+            return 0;
+        }
+        int fromDate = toPackedDate(Math.floorDiv(from, SECONDS_PER_DAY));
+        int toDate = toPackedDate(Math.floorDiv(to, SECONDS_PER_DAY));
+        int fromYear = packedYear(fromDate);
+        int fromMonth = packedMonth(fromDate);
+        int toYear = packedYear(toDate);
+        int toMonth = packedMonth(toDate);
+        long result = countFiresInMonthBefore(to) - countFiresInMonthBefore(from);
+        if (fromYear == toYear && fromMonth == toMonth) {
+            return result;
+        }
+        long days = hasYear(fromYear) && hasMonth(fromMonth) ? Integer.bitCount(daysOfMonth(fromYear, fromMonth)) : 0;
+        for (int year = nextYear(fromYear); year >= 0 && year <= toYear; year = nextYear(year + 1)) {
+            int lastMonth = year < toYear ? MAX_MONTH : toMonth - 1;
+            for (int month = nextMonth(year == fromYear ? fromMonth + 1 : 1); month > 0 && month <= lastMonth; month = nextMonth(month + 1)) {
+                days += Integer.bitCount(daysOfMonth(year, month));
+            }
+        }
+        return result + days * Long.bitCount(seconds) * Long.bitCount(minutes) * Integer.bitCount(hours);
+    }
+
+    private long countFiresInMonthBefore(long epochSecond) {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) (epochSecond - epochDay * SECONDS_PER_DAY);
+        int date = toPackedDate(epochDay);
+        int year = packedYear(date);
+        int month = packedMonth(date);
+        int day = packedDay(date);
+        int hour = secondOfDay / SECONDS_PER_HOUR;
+        int minute = secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE;
+        int second = secondOfDay % SECONDS_PER_MINUTE;
+        if (!hasYear(year) || !hasMonth(month)) {
+            return 0;
+        }
+        long firesPerMinute = Long.bitCount(seconds);
+        long firesPerHour = firesPerMinute * Long.bitCount(minutes);
+        long firesPerDay = firesPerHour * Integer.bitCount(hours);
+        int monthDays = daysOfMonth(year, month);
+        long result = Integer.bitCount(monthDays & ((1 << (day - 1)) - 1)) * firesPerDay;
+        if (!hasDay(monthDays, day)) {
+            return result;
+        }
+        result += Integer.bitCount(hours & ((1 << hour) - 1)) * firesPerHour;
+        if (!hasHour(hour)) {
+            return result;
+        }
+        result += Long.bitCount(minutes & ((1L << minute) - 1)) * firesPerMinute;
+        if (!hasMinute(minute)) {
+            return result;
+        }
+        return result + Long.bitCount(seconds & ((1L << second) - 1));
+    }
+
+    public static boolean hasDay(int daysOfMonth, int day) {
+        return nextDay(daysOfMonth, day) == day;
+    }
+
+    public static int nextDay(int daysOfMonth, int from) {
+        int result = next(daysOfMonth & 0xFFFFFFFFL, from - 1);
+        return result < 0 ? result : result + 1;
+    }
+
+    public static int previousDay(int daysOfMonth, int from) {
+        int result = previous(daysOfMonth & 0xFFFFFFFFL, Math.min(from, MAX_DAY_OF_MONTH) - 1);
+        return result < 0 ? result : result + 1;
+    }
+
+    private void computeBounds() {
+        long first = ForwardSearcher.firstFire(this);
+        long last = first == NO_FIRE ? NO_FIRE : BackwardSearcher.lastFire(this);
+        firstFire = first;
+        lastFire = last;
+    }
+
+    private static int hours(long hoursWord) {
+        return (int) (hoursWord & ((1L << NTH_DAYS_OF_WEEK_SHIFT) - 1));
+    }
+
+    private static long nthDaysOfWeek(long hoursWord) {
+        return (hoursWord >>> NTH_DAYS_OF_WEEK_SHIFT) & ((1L << (WEEK_LENGTH * MAX_WEEKS)) - 1);
+    }
+
+    private static boolean lastWeekdayOfMonth(long hoursWord) {
+        return (hoursWord >>> LAST_WEEKDAY_SHIFT & 1) != 0;
+    }
+
+    private static int daysOfMonth(long daysWord) {
+        return (int) daysWord & ALL_DAYS_OF_MONTH;
+    }
+
+    private static int lastDaysOfMonth(long daysWord) {
+        return (int) (daysWord >>> LAST_DAYS_OF_MONTH_SHIFT) & ALL_DAYS_OF_MONTH;
+    }
+
+    private static int months(long weekdaysWord) {
+        return (int) weekdaysWord & ((1 << MAX_MONTH) - 1);
+    }
+
+    private static int daysOfWeek(long weekdaysWord) {
+        return (int) (weekdaysWord >>> DAYS_OF_WEEK_SHIFT) & ALL_DAYS_OF_WEEK;
+    }
+
+    private static int lastDaysOfWeek(long weekdaysWord) {
+        return (int) (weekdaysWord >>> LAST_DAYS_OF_WEEK_SHIFT) & ALL_DAYS_OF_WEEK;
+    }
+
+    private static int weekdaysOfMonth(long weekdaysWord) {
+        return (int) (weekdaysWord >>> WEEKDAYS_OF_MONTH_SHIFT) & ALL_DAYS_OF_MONTH;
+    }
+
+    public static int nextSecond(LongBuffer words, int offset, int from) {
+        return next(words.get(offset), from);
+    }
+
+    public static int previousSecond(LongBuffer words, int offset, int from) {
+        return previous(words.get(offset), from);
+    }
+
+    public static int nextMinute(LongBuffer words, int offset, int from) {
+        return next(words.get(offset + 1), from);
+    }
+
+    public static int previousMinute(LongBuffer words, int offset, int from) {
+        return previous(words.get(offset + 1), from);
+    }
+
+    public static int nextHour(LongBuffer words, int offset, int from) {
+        return next(hours(words.get(offset + HOURS_WORD)), from);
+    }
+
+    public static int previousHour(LongBuffer words, int offset, int from) {
+        return previous(hours(words.get(offset + HOURS_WORD)), from);
+    }
+
+    public static int nextMonth(LongBuffer words, int offset, int from) {
+        return nextMonth(months(words.get(offset + WEEKDAYS_WORD)), from);
+    }
+
+    public static int previousMonth(LongBuffer words, int offset, int from) {
+        return previousMonth(months(words.get(offset + WEEKDAYS_WORD)), from);
+    }
+
+    public static boolean hasYear(LongBuffer words, int offset, int year) {
+        return nextYear(words, offset, year) == year;
+    }
+
+    public static int nextYear(LongBuffer words, int offset, int from) {
+        for (int i = Math.max(from, MIN_YEAR) - MIN_YEAR; i < YEAR_COUNT; ) {
+            int word = i >>> 6;
+            long masked = words.get(offset + YEARS_WORD + word) & (-1L << i);
+            if (masked != 0) {
+                return MIN_YEAR + (word << 6) + Long.numberOfTrailingZeros(masked);
+            }
+            i = (word + 1) << 6;
+        }
+        return -1;
+    }
+
+    public static int previousYear(LongBuffer words, int offset, int from) {
+        for (int i = Math.min(from, MAX_YEAR) - MIN_YEAR; i >= 0; ) {
+            int word = i >>> 6;
+            long masked = words.get(offset + YEARS_WORD + word) & (-1L >>> (Long.SIZE - 1 - (i & (Long.SIZE - 1))));
+            if (masked != 0) {
+                return MIN_YEAR + (word << 6) + Long.SIZE - 1 - Long.numberOfLeadingZeros(masked);
+            }
+            i = (word << 6) - 1;
+        }
+        return -1;
+    }
+
+    private static int nextMonth(int months, int from) {
+        int result = next(months, from - 1);
+        return result < 0 ? result : result + 1;
+    }
+
+    private static int previousMonth(int months, int from) {
+        int result = previous(months, Math.min(from, MAX_MONTH) - 1);
+        return result < 0 ? result : result + 1;
+    }
+
+    private static int next(long mask, int from) {
+        if (from >= Long.SIZE) {
+            return -1;
+        }
+        long masked = mask & (-1L << Math.max(from, 0));
+        return masked == 0 ? -1 : Long.numberOfTrailingZeros(masked);
+    }
+
+    private static int previous(long mask, int from) {
+        if (from < 0) {
+            return -1;
+        }
+        long masked = mask & (-1L >>> (Long.SIZE - 1 - Math.min(from, Long.SIZE - 1)));
+        return masked == 0 ? -1 : Long.SIZE - 1 - Long.numberOfLeadingZeros(masked);
+    }
+
+    private static long expand(Set<? extends CronToken> cronTokens, int min, int max) {
+        long mask = 0;
+        for (CronToken cronToken : cronTokens) {
+            int start = cronToken.getStart();
+            int end = cronToken.hasEnd() ? cronToken.getEnd() : cronToken.hasEvery() ? max : start;
+            int step = cronToken.hasEvery() ? cronToken.getEvery() : 1;
+            for (int value = start; value <= end; value += step) {
+                mask |= 1L << (value - min);
+            }
+        }
+        return mask;
+    }
+
+    private static long[] expandYears(Set<CronYears> cronYears) {
+        long[] mask = new long[YEAR_WORDS];
+        for (CronYears cronYear : cronYears) {
+            int start = cronYear.getStart();
+            int end = cronYear.hasEnd() ? cronYear.getEnd() : cronYear.hasEvery() ? MAX_YEAR : start;
+            int step = cronYear.hasEvery() ? cronYear.getEvery() : 1;
+            for (int year = start; year <= end; year += step) {
+                int i = year - MIN_YEAR;
+                mask[i >>> 6] |= 1L << i;
+            }
+        }
+        return mask;
+    }
+}
@@ -3,13 +3,9 @@ package com.jw.cronparser.domain;
 import static com.jw.cronparser.CronUtils.*;
 
 import java.time.DayOfWeek;
-import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class CronDaysOfWeek implements CronToken {
 
@@ -17,26 +13,6 @@ public class CronDaysOfWeek implements CronToken {
     public static final CronDaysOfWeek ANY = new CronDaysOfWeek(true);
     public static final CronDaysOfWeek EVERY = new CronDaysOfWeek(1, null, 1, null);
 
-    private static final String CRON_EVERY = "*";
-    private static final String CRON_ANY = "?";
-    private static final Pattern REGEX_ALL =
-            Pattern.compile("^(\\d+|SUN|MON|TUE|WED|THU|FRI|SAT)(?:-(\\d+|SUN|MON|TUE|WED|THU|FRI|SAT))?(?:/(\\d+))?(?:#(\\d+))?$");
-    private static final Pattern REGEX_LAST = Pattern.compile("^(\\d+|SUN|MON|TUE|WED|THU|FRI|SAT)L$");
-    private static final int GROUP_1 = 1;
-    private static final int GROUP_2 = 2;
-    private static final int GROUP_3 = 3;
-    private static final int GROUP_4 = 4;
-
-    private static final Map<String, Integer> WEEKDAY_MAPPING = Map.of(
-            "SUN", 1,
-            "MON", 2,
-            "TUE", 3,
-            "WED", 4,
-            "THU", 5,
-            "FRI", 6,
-            "SAT", 7
-    );
-
     private final boolean any;
     private Integer start;
     private Integer ordinal;
@@ -62,44 +38,7 @@ public class CronDaysOfWeek implements CronToken {
     }
 
     public static Set<CronDaysOfWeek> parse(String str) {
-        if (str.equals(CRON_ANY)) {
-            return Set.of(ANY);
-        }
-        if (str.equals(CRON_EVERY)) {
-            return Set.of(EVERY);
-        }
-        String[] expressions = str.split(",");
-        if (expressions.length > 0) {
-            return Arrays.stream(expressions).map(CronDaysOfWeek::parseElement).collect(Collectors.toSet());
-        } else {
-            throw new IllegalArgumentException("Wrong Cron format for day of week: " + str);
-        }
-    }
-
-    private static CronDaysOfWeek parseElement(String expression) {
-        Matcher matcherAll = REGEX_ALL.matcher(expression);
-        Matcher matcherLast = REGEX_LAST.matcher(expression);
-        if (matcherAll.matches()) {
-            return new CronDaysOfWeek(
-                    resolveDayOfWeek(matcherAll.group(GROUP_1)),
-                    resolveDayOfWeek(matcherAll.group(GROUP_4)),
-                    resolveDayOfWeek(matcherAll.group(GROUP_3)),
-                    resolveDayOfWeek(matcherAll.group(GROUP_2)));
-        } else if (matcherLast.matches()) {
-            return new CronDaysOfWeek(resolveDayOfWeek(matcherLast.group(GROUP_1)), LAST_DAY_OF_WEEK, null, null);
-        } else {
-            throw new IllegalArgumentException("Wrong Cron format for day of week: " + expression);
-        }
-    }
-
-    private static Integer resolveDayOfWeek(String str) {
-        if (str == null || str.trim().equals("")) {
-            return null;
-        } else if (WEEKDAY_MAPPING.containsKey(str)) {
-            return WEEKDAY_MAPPING.get(str);
-        } else {
-            return Integer.parseInt(str);
-        }
+        return CronExpressionParser.parseDaysOfWeek(str);
     }
 
     private void calculateMatchingDaysOfWeek() {
@@ -113,7 +52,7 @@ public class CronDaysOfWeek implements CronToken {
                 }
             }
             if (every != null) {
-                for (int i = start; i <= MAX_DAY_OF_WEEK; i += every) {
+                for (int i = start, last = end != null ? end : MAX_DAY_OF_WEEK; i <= last; i += every) {
                     result.add(i);
                 }
             }
@@ -121,6 +60,10 @@ public class CronDaysOfWeek implements CronToken {
         this.matchingDaysOfWeek = result;
     }
 
+    public boolean isAny() {
+        return any;
+    }
+
     public boolean matchesDayOfWeek(DayOfWeek dayOfWeek) {
         return matchingDaysOfWeek.contains(dayOfWeekToIndex(dayOfWeek));
     }
@@ -187,9 +130,9 @@ public class CronDaysOfWeek implements CronToken {
             return true;
         }
         return any == cronDaysOfWeek.any
-                && start.equals(cronDaysOfWeek.start)
-                && ordinal.equals(cronDaysOfWeek.ordinal)
-                && every.equals(cronDaysOfWeek.every)
-                && end.equals(cronDaysOfWeek.end);
+                && Objects.equals(start, cronDaysOfWeek.start)
+                && Objects.equals(ordinal, cronDaysOfWeek.ordinal)
+                && Objects.equals(every, cronDaysOfWeek.every)
+                && Objects.equals(end, cronDaysOfWeek.end);
     }
 }
@@ -0,0 +1,134 @@
+package com.jw.cronparser.domain;
+
+import static com.jw.cronparser.CronUtils.*;
+
+import java.nio.LongBuffer;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.jw.cronparser.searcher.BackwardSearcher;
+import com.jw.cronparser.searcher.ForwardSearcher;
+
+public final class CronEncoding {
+
+    public static final int LENGTH = CompiledCron.ENCODED_LENGTH;
+
+    private CronEncoding() {
+
+    }
+
+    public static long[] encode(CronObject cronObject) {
+        return cronObject.getCompiledCron().encode();
+    }
+
+    public static void encode(CronObject cronObject, long[] words, int offset) {
+        cronObject.getCompiledCron().encode(words, offset);
+    }
+
+    public static CronObject decode(long[] words) {
+        return decode(words, 0);
+    }
+
+    public static CronObject decode(long[] words, int offset) {
+        CompiledCron compiledCron = CompiledCron.decode(words, offset);
+        return CronObject.builder()
+                .seconds(decodeSimple(compiledCron.getSeconds(), 0, MAX_SECOND, CronSeconds.EVERY, CronSeconds::new))
+                .minutes(decodeSimple(compiledCron.getMinutes(), 0, MAX_MINUTE, CronMinutes.EVERY, CronMinutes::new))
+                .hours(decodeSimple(compiledCron.getHours(), 0, MAX_HOUR, CronHours.EVERY, CronHours::new))
+                .daysOfMonth(decodeDaysOfMonth(compiledCron))
+                .months(decodeSimple(compiledCron.getMonths(), 1, MAX_MONTH, CronMonths.EVERY, CronMonths::new))
+                .daysOfWeek(decodeDaysOfWeek(compiledCron))
+                .years(decodeYears(compiledCron))
+                .build();
+    }
+
+    public static long nextFireEpochSecond(long[] words, int offset, long epochSecond) {
+        return nextFireEpochSecond(LongBuffer.wrap(words), offset, epochSecond);
+    }
+
+    public static long nextFireEpochSecond(LongBuffer words, int index, long epochSecond) {
+        return ForwardSearcher.nextFire(words, index, epochSecond);
+    }
+
+    public static long previousFireEpochSecond(long[] words, int offset, long epochSecond) {
+        return previousFireEpochSecond(LongBuffer.wrap(words), offset, epochSecond);
+    }
+
+    public static long previousFireEpochSecond(LongBuffer words, int index, long epochSecond) {
+        return BackwardSearcher.previousFire(words, index, epochSecond);
+    }
+
+    public static boolean matches(long[] words, int offset, long epochSecond) {
+        return matches(LongBuffer.wrap(words), offset, epochSecond);
+    }
+
+    public static boolean matches(LongBuffer words, int index, long epochSecond) {
+        return CompiledCron.matches(words, index, epochSecond);
+    }
+
+    private static <T> Set<T> decodeSimple(long mask, int min, int max, T every, TokenFactory<T> factory) {
+        long all = -1L >>> (Long.SIZE - (max - min + 1));
+        if ((mask & all) == all) {
+            return Set.of(every);
+        }
+        Set<T> result = new HashSet<>();
+        for (long remaining = mask & all; remaining != 0; ) {
+            int start = Long.numberOfTrailingZeros(remaining);
+            int end = Long.numberOfTrailingZeros(~(remaining >>> start)) + start - 1;
+            result.add(factory.create(start + min, null, end > start ? end + min : null));
+            remaining &= end == Long.SIZE - 1 ? 0 : -1L << (end + 1);
+        }
+        return result;
+    }
+
+    private static Set<CronDaysOfMonth> decodeDaysOfMonth(CompiledCron compiledCron) {
+        Set<CronDaysOfMonth> result = new HashSet<>(decodeSimple(compiledCron.getDaysOfMonth(), 1, MAX_DAY_OF_MONTH,
+                CronDaysOfMonth.EVERY, CronDaysOfMonth::new));
+        for (int offsets = compiledCron.getLastDaysOfMonth(); offsets != 0; offsets &= offsets - 1) {
+            result.add(new CronDaysOfMonth(-Integer.numberOfTrailingZeros(offsets), null, null));
+        }
+        for (int days = compiledCron.getWeekdaysOfMonth(); days != 0; days &= days - 1) {
+            result.add(new CronDaysOfMonth(Integer.numberOfTrailingZeros(days) + 1, null, null, true));
+        }
+        if (compiledCron.isLastWeekdayOfMonth()) {
+            result.add(new CronDaysOfMonth(CronDaysOfMonth.LAST_DAY, null, null, true));
+        }
+        return result;
+    }
+
+    private static Set<CronDaysOfWeek> decodeDaysOfWeek(CompiledCron compiledCron) {
+        Set<CronDaysOfWeek> result = new HashSet<>(decodeSimple(compiledCron.getDaysOfWeek(), 1, MAX_DAY_OF_WEEK,
+                CronDaysOfWeek.EVERY, (start, every, end) -> new CronDaysOfWeek(start, null, every, end)));
+        for (int days = compiledCron.getLastDaysOfWeek(); days != 0; days &= days - 1) {
+            result.add(new CronDaysOfWeek(Integer.numberOfTrailingZeros(days) + 1, CronDaysOfWeek.LAST_DAY_OF_WEEK, null, null));
+        }
+        for (long days = compiledCron.getNthDaysOfWeek(); days != 0; days &= days - 1) {
+            int bit = Long.numberOfTrailingZeros(days);
+            result.add(new CronDaysOfWeek(bit % WEEK_LENGTH + 1, bit / WEEK_LENGTH + 1, null, null));
+        }
+        return result;
+    }
+
+    private static Set<CronYears> decodeYears(CompiledCron compiledCron) {
+        Set<CronYears> result = new HashSet<>();
+        for (int start = compiledCron.nextYear(MIN_YEAR); start >= 0; ) {
+            int end = start;
+            while (end < MAX_YEAR && compiledCron.hasYear(end + 1)) {
+                end++;
+            }
+            if (start == MIN_YEAR && end == MAX_YEAR) {
+                return Set.of(CronYears.EVERY);
+            }
+            result.add(end == MAX_YEAR ? new CronYears(start, 1, null) : new CronYears(start, null, end > start ? end : null));
+            start = end < MAX_YEAR ? compiledCron.nextYear(end + 1) : -1;
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface TokenFactory<T> {
+
+        T create(Integer start, Integer every, Integer end);
+
+    }
+}
@@ -0,0 +1,366 @@
+package com.jw.cronparser.domain;
+
+import static com.jw.cronparser.CronUtils.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public final class CronExpressionParser {
+
+    private static final String FIELD_SECONDS = "seconds";
+    private static final String FIELD_MINUTES = "minutes";
+    private static final String FIELD_HOURS = "hours";
+    private static final String FIELD_DAYS_OF_MONTH = "days of month";
+    private static final String FIELD_MONTHS = "months";
+    private static final String FIELD_DAYS_OF_WEEK = "day of week";
+    private static final String FIELD_YEARS = "years";
+    private static final String[] MONTH_NAMES =
+            {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_OF_WEEK_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+    private static final int NAME_LENGTH = 3;
+    private static final char EVERY = '*';
+    private static final char ANY = '?';
+    private static final char LIST = ',';
+    private static final char RANGE = '-';
+    private static final char STEP = '/';
+    private static final char NTH = '#';
+    private static final char LAST = 'L';
+    private static final char WEEKDAY = 'W';
+    private static final char HASH = 'H';
+    private static final char HASH_RANGE_START = '(';
+    private static final char HASH_RANGE_END = ')';
+    private static final int MAX_HASHED_DAY_OF_MONTH = 28;
+    private static final CronParseEvent PROBE = new CronParseEvent();
+
+    private final String input;
+    private final String hashKey;
+    private int position;
+    private int fieldStart;
+    private int fieldEnd;
+    private String fieldName;
+
+    private CronExpressionParser(String input, String hashKey) {
+        this.input = input;
+        this.hashKey = hashKey;
+    }
+
+    public static CronObject parse(String expression) {
+        return parse(expression, null);
+    }
+
+    public static CronObject parse(String expression, String hashKey) {
+        if (!PROBE.isEnabled()) {
+            return parseExpression(expression, hashKey);
+        }
+        CronParseEvent event = new CronParseEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            CronObject result = parseExpression(expression, hashKey);
+            success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.expression = expression;
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    private static CronObject parseExpression(String expression, String hashKey) {
+        CronExpressionParser parser = new CronExpressionParser(expression, hashKey);
+        CronObject.CronObjectBuilder builder = CronObject.builder().expression(expression);
+        parser.nextField(FIELD_SECONDS);
+        builder.seconds(parser.simpleField(CronSeconds.EVERY, 0, MAX_SECOND, CronSeconds::new));
+        parser.nextField(FIELD_MINUTES);
+        builder.minutes(parser.simpleField(CronMinutes.EVERY, 0, MAX_MINUTE, CronMinutes::new));
+        parser.nextField(FIELD_HOURS);
+        builder.hours(parser.simpleField(CronHours.EVERY, 0, MAX_HOUR, CronHours::new));
+        parser.nextField(FIELD_DAYS_OF_MONTH);
+        builder.daysOfMonth(parser.daysOfMonthField());
+        parser.nextField(FIELD_MONTHS);
+        builder.months(parser.monthsField());
+        parser.nextField(FIELD_DAYS_OF_WEEK);
+        builder.daysOfWeek(parser.daysOfWeekField());
+        parser.nextField(FIELD_YEARS);
+        builder.years(parser.simpleField(CronYears.EVERY, MIN_YEAR, MAX_YEAR - 1, CronYears::new));
+        parser.skipWhitespace();
+        if (parser.position < expression.length()) {
+            throw new IllegalArgumentException("Wrong Cron format, too many fields: " + expression);
+        }
+        return builder.build();
+    }
+
+    static Set<CronSeconds> parseSeconds(String str) {
+        return forField(str, FIELD_SECONDS).simpleField(CronSeconds.EVERY, 0, MAX_SECOND, CronSeconds::new);
+    }
+
+    static Set<CronMinutes> parseMinutes(String str) {
+        return forField(str, FIELD_MINUTES).simpleField(CronMinutes.EVERY, 0, MAX_MINUTE, CronMinutes::new);
+    }
+
+    static Set<CronHours> parseHours(String str) {
+        return forField(str, FIELD_HOURS).simpleField(CronHours.EVERY, 0, MAX_HOUR, CronHours::new);
+    }
+
+    static Set<CronDaysOfMonth> parseDaysOfMonth(String str) {
+        return forField(str, FIELD_DAYS_OF_MONTH).daysOfMonthField();
+    }
+
+    static Set<CronMonths> parseMonths(String str) {
+        return forField(str, FIELD_MONTHS).monthsField();
+    }
+
+    static Set<CronDaysOfWeek> parseDaysOfWeek(String str) {
+        return forField(str, FIELD_DAYS_OF_WEEK).daysOfWeekField();
+    }
+
+    static Set<CronYears> parseYears(String str) {
+        return forField(str, FIELD_YEARS).simpleField(CronYears.EVERY, MIN_YEAR, MAX_YEAR - 1, CronYears::new);
+    }
+
+    private static CronExpressionParser forField(String str, String fieldName) {
+        CronExpressionParser parser = new CronExpressionParser(str, null);
+        parser.fieldName = fieldName;
+        parser.fieldEnd = str.length();
+        return parser;
+    }
+
+    private void nextField(String name) {
+        skipWhitespace();
+        fieldName = name;
+        fieldStart = position;
+        fieldEnd = position;
+        while (fieldEnd < input.length() && !Character.isWhitespace(input.charAt(fieldEnd))) {
+            fieldEnd++;
+        }
+        if (fieldStart == fieldEnd) {
+            throw new IllegalArgumentException("Wrong Cron format, missing " + name + ": " + input);
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+    }
+
+    private <T extends CronToken> Set<T> simpleField(T every, int min, int max, TokenFactory<T> factory) {
+        if (consumeWhole(EVERY)) {
+            return Set.of(every);
+        }
+        Set<T> result = new HashSet<>();
+        do {
+            if (consume(EVERY)) {
+                expect(STEP);
+                result.add(factory.create(min, number(1, max), null));
+                continue;
+            }
+            if (consume(HASH)) {
+                result.add(hashed(min, max, max, factory));
+                continue;
+            }
+            int start = number(min, max);
+            Integer end = consume(RANGE) ? number(start, max) : null;
+            Integer step = consume(STEP) ? number(1, max) : null;
+            result.add(factory.create(start, step, end));
+        } while (consume(LIST));
+        return finishField(result);
+    }
+
+    private Set<CronDaysOfMonth> daysOfMonthField() {
+        if (consumeWhole(ANY)) {
+            return Set.of(CronDaysOfMonth.ANY);
+        }
+        if (consumeWhole(EVERY)) {
+            return Set.of(CronDaysOfMonth.EVERY);
+        }
+        Set<CronDaysOfMonth> result = new HashSet<>();
+        do {
+            if (consume(EVERY)) {
+                expect(STEP);
+                result.add(new CronDaysOfMonth(1, number(1, MAX_DAY_OF_MONTH), null));
+            } else if (consume(HASH)) {
+                result.add(hashed(1, MAX_DAY_OF_MONTH, MAX_HASHED_DAY_OF_MONTH, CronDaysOfMonth::new));
+            } else if (consume(LAST)) {
+                if (consume(WEEKDAY)) {
+                    result.add(new CronDaysOfMonth(CronDaysOfMonth.LAST_DAY, null, null, true));
+                } else {
+                    result.add(new CronDaysOfMonth(consume(RANGE) ? -number(0, MAX_DAY_OF_MONTH - 1) : CronDaysOfMonth.LAST_DAY, null, null));
+                }
+            } else {
+                int start = number(1, MAX_DAY_OF_MONTH);
+                if (consume(WEEKDAY)) {
+                    result.add(new CronDaysOfMonth(start, null, null, true));
+                } else {
+                    Integer end = consume(RANGE) ? number(start, MAX_DAY_OF_MONTH) : null;
+                    Integer step = consume(STEP) ? number(1, MAX_DAY_OF_MONTH) : null;
+                    result.add(new CronDaysOfMonth(start, step, end));
+                }
+            }
+        } while (consume(LIST));
+        return finishField(result);
+    }
+
+    private Set<CronMonths> monthsField() {
+        if (consumeWhole(EVERY)) {
+            return Set.of(CronMonths.EVERY);
+        }
+        Set<CronMonths> result = new HashSet<>();
+        do {
+            if (consume(EVERY)) {
+                expect(STEP);
+                result.add(new CronMonths(1, number(1, MAX_MONTH), null));
+                continue;
+            }
+            if (consume(HASH)) {
+                result.add(hashed(1, MAX_MONTH, MAX_MONTH, CronMonths::new));
+                continue;
+            }
+            int start = named(MONTH_NAMES, 1);
+            Integer end = consume(RANGE) ? named(MONTH_NAMES, start) : null;
+            Integer step = consume(STEP) ? number(1, MAX_MONTH) : null;
+            result.add(new CronMonths(start, step, end));
+        } while (consume(LIST));
+        return finishField(result);
+    }
+
+    private Set<CronDaysOfWeek> daysOfWeekField() {
+        if (consumeWhole(ANY)) {
+            return Set.of(CronDaysOfWeek.ANY);
+        }
+        if (consumeWhole(EVERY)) {
+            return Set.of(CronDaysOfWeek.EVERY);
+        }
+        Set<CronDaysOfWeek> result = new HashSet<>();
+        do {
+            if (consume(EVERY)) {
+                expect(STEP);
+                result.add(new CronDaysOfWeek(1, null, number(1, MAX_DAY_OF_WEEK), null));
+                continue;
+            }
+            if (consume(HASH)) {
+                result.add(hashed(1, MAX_DAY_OF_WEEK, MAX_DAY_OF_WEEK, (start, every, end) -> new CronDaysOfWeek(start, null, every, end)));
+                continue;
+            }
+            int start = named(DAY_OF_WEEK_NAMES, 1);
+            if (consume(LAST)) {
+                result.add(new CronDaysOfWeek(start, CronDaysOfWeek.LAST_DAY_OF_WEEK, null, null));
+                continue;
+            }
+            Integer end = consume(RANGE) ? named(DAY_OF_WEEK_NAMES, start) : null;
+            Integer step = consume(STEP) ? number(1, MAX_DAY_OF_WEEK) : null;
+            Integer ordinal = consume(NTH) ? number(1, MAX_WEEKS) : null;
+            result.add(new CronDaysOfWeek(start, ordinal, step, end));
+        } while (consume(LIST));
+        return finishField(result);
+    }
+
+    private <T> T hashed(int min, int max, int hashedMax, TokenFactory<T> factory) {
+        int tokenStart = position - 1;
+        if (hashKey == null) {
+            throw wrongFormat();
+        }
+        int start = min;
+        Integer end = null;
+        if (consume(HASH_RANGE_START)) {
+            start = number(min, max);
+            expect(RANGE);
+            end = number(start, max);
+            expect(HASH_RANGE_END);
+        } else if (FIELD_YEARS.equals(fieldName)) {
+            throw wrongFormat();
+        }
+        if (consume(STEP)) {
+            int step = number(1, max);
+            int last = end != null ? end : max;
+            return factory.create(start + hash(tokenStart, Math.min(step, last - start + 1)), step, last);
+        }
+        int last = end != null ? end : hashedMax;
+        return factory.create(start + hash(tokenStart, last - start + 1), null, null);
+    }
+
+    private int hash(int tokenStart, int bound) {
+        long seed = (long) hashKey.hashCode() << Integer.SIZE ^ (fieldName.hashCode() * 31 + tokenStart - fieldStart);
+        seed = (seed ^ (seed >>> 33)) * 0xff51afd7ed558ccdL;
+        seed = (seed ^ (seed >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        seed ^= seed >>> 33;
+        return (int) Math.floorMod(seed, (long) bound);
+    }
+
+    private <T> Set<T> finishField(Set<T> result) {
+        if (position != fieldEnd) {
+            throw wrongFormat();
+        }
+        return result;
+    }
+
+    private boolean consumeWhole(char c) {
+        if (fieldEnd - position == 1 && input.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consume(char c) {
+        if (position < fieldEnd && input.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        if (!consume(c)) {
+            throw wrongFormat();
+        }
+    }
+
+    private int number(int min, int max) {
+        int start = position;
+        int result = 0;
+        while (position < fieldEnd && isDigit(input.charAt(position))) {
+            result = result * 10 + (input.charAt(position++) - '0');
+            if (result > max) {
+                throw wrongFormat();
+            }
+        }
+        if (position == start || result < min) {
+            throw wrongFormat();
+        }
+        return result;
+    }
+
+    private int named(String[] names, int min) {
+        if (position < fieldEnd && isDigit(input.charAt(position))) {
+            return number(min, names.length);
+        }
+        if (fieldEnd - position >= NAME_LENGTH) {
+            for (int i = min - 1; i < names.length; i++) {
+                if (input.regionMatches(position, names[i], 0, NAME_LENGTH)) {
+                    position += NAME_LENGTH;
+                    return i + 1;
+                }
+            }
+        }
+        throw wrongFormat();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private IllegalArgumentException wrongFormat() {
+        return new IllegalArgumentException("Wrong Cron format for " + fieldName + ": " + input.substring(fieldStart, fieldEnd));
+    }
+
+    @FunctionalInterface
+    private interface TokenFactory<T> {
+
+        T create(Integer start, Integer every, Integer end);
+
+    }
+}
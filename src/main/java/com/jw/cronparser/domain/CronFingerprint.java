@@ -0,0 +1,67 @@
+package com.jw.cronparser.domain;
+
+import java.util.Arrays;
+
+public final class CronFingerprint {
+
+    private static final long MIX_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final long[] words;
+    private final long hash;
+
+    private CronFingerprint(long[] words) {
+        this.words = words;
+        long result = 0;
+        for (long word : words) {
+            result = (result ^ word) * MIX_MULTIPLIER;
+            result ^= result >>> Integer.SIZE;
+        }
+        this.hash = result;
+    }
+
+    public static CronFingerprint of(CronObject cronObject) {
+        return new CronFingerprint(cronObject.getCompiledCron().encode());
+    }
+
+    public static CronFingerprint of(long[] encoded) {
+        return new CronFingerprint(Arrays.copyOf(encoded, CronEncoding.LENGTH));
+    }
+
+    public long[] toEncoded() {
+        return words.clone();
+    }
+
+    public long toLong() {
+        return hash;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (hash ^ (hash >>> Integer.SIZE));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null) {
+            return false;
+        }
+        if (this.getClass() != o.getClass()) {
+            return false;
+        }
+        CronFingerprint cronFingerprint = (CronFingerprint) o;
+        return hash == cronFingerprint.hash && Arrays.equals(words, cronFingerprint.words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder(words.length * Long.BYTES * 2);
+        for (long word : words) {
+            String hex = Long.toHexString(word);
+            result.append("0".repeat(Long.BYTES * 2 - hex.length())).append(hex);
+        }
+        return result.toString();
+    }
+}
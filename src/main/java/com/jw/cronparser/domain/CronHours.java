@@ -2,25 +2,13 @@ package com.jw.cronparser.domain;
 
 import static com.jw.cronparser.CronUtils.MAX_HOUR;
 
-import java.util.Arrays;
+import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class CronHours implements CronToken {
 
     public static final CronHours EVERY = new CronHours(0, 1, null);
 
-    private static final String CRON_EVERY = "*";
-    private static final Pattern REGEX_ALL = Pattern.compile("^(\\d+)-(\\d+)/(\\d+)$");
-    private static final Pattern REGEX_RANGE = Pattern.compile("^(\\d+)-(\\d+)$");
-    private static final Pattern REGEX_EVERY = Pattern.compile("^(\\d+)/(\\d+)$");
-    private static final Pattern REGEX_SIMPLE = Pattern.compile("^(\\d+)$");
-    private static final int GROUP_1 = 1;
-    private static final int GROUP_2 = 2;
-    private static final int GROUP_3 = 3;
-
     private final Integer start;
     private final Integer every;
     private final Integer end;
@@ -36,34 +24,7 @@ public class CronHours implements CronToken {
     }
 
     public static Set<CronHours> parse(String str) {
-        if (str.equals(CRON_EVERY)) {
-            return Set.of(EVERY);
-        }
-        String[] expressions = str.split(",");
-        if (expressions.length > 0) {
-            return Arrays.stream(expressions).map(CronHours::parseElement).collect(Collectors.toSet());
-        } else {
-            throw new IllegalArgumentException("Wrong Cron format for hours: " + str);
-        }
-    }
-
-    private static CronHours parseElement(String expression) {
-        Matcher matcherAll = REGEX_ALL.matcher(expression);
-        Matcher matcherEvery = REGEX_EVERY.matcher(expression);
-        Matcher matcherRange = REGEX_RANGE.matcher(expression);
-        Matcher matcherSimple = REGEX_SIMPLE.matcher(expression);
-        if (matcherAll.matches()) {
-            return new CronHours(Integer.parseInt(matcherAll.group(GROUP_1)),
-                    Integer.parseInt(matcherAll.group(GROUP_3)), Integer.parseInt(matcherAll.group(GROUP_2)));
-        } else if (matcherEvery.matches()) {
-            return new CronHours(Integer.parseInt(matcherEvery.group(GROUP_1)), Integer.parseInt(matcherEvery.group(GROUP_2)), null);
-        } else if (matcherRange.matches()) {
-            return new CronHours(Integer.parseInt(matcherRange.group(GROUP_1)), null, Integer.parseInt(matcherRange.group(GROUP_2)));
-        } else if (matcherSimple.matches()) {
-            return new CronHours(Integer.parseInt(matcherSimple.group(GROUP_1)), null, null);
-        } else {
-            throw new IllegalArgumentException("Wrong Cron format for hours: " + expression);
-        }
+        return CronExpressionParser.parseHours(str);
     }
 
     public Integer getStart() {
@@ -108,8 +69,8 @@ public class CronHours implements CronToken {
             return false;
         }
         CronHours cronHours = (CronHours) o;
-        return start.equals(cronHours.start)
-                && every.equals(cronHours.every)
-                && end.equals(cronHours.end);
+        return Objects.equals(start, cronHours.start)
+                && Objects.equals(every, cronHours.every)
+                && Objects.equals(end, cronHours.end);
     }
 }
@@ -1,15 +1,30 @@
 package com.jw.cronparser.domain;
 
+import static com.jw.cronparser.CronUtils.MILLIS_PER_SECOND;
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+import static com.jw.cronparser.searcher.DstGapPolicy.SHIFT;
+import static com.jw.cronparser.searcher.DstOverlapPolicy.ONCE;
+
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.jw.cronparser.searcher.*;
 
 import lombok.Builder;
 
-@Builder
 public class CronObject {
 
+    private final String expression;
     private final Set<CronSeconds> seconds;
     private final Set<CronMinutes> minutes;
     private final Set<CronHours> hours;
@@ -17,6 +32,53 @@ public class CronObject {
     private final Set<CronMonths> months;
     private final Set<CronDaysOfWeek> daysOfWeek;
     private final Set<CronYears> years;
+    private final CompiledCron compiledCron;
+    private final ForwardSearcher forwardSearcher;
+    private final BackwardSearcher backwardSearcher;
+
+    @Builder
+    private CronObject(String expression, Set<CronSeconds> seconds, Set<CronMinutes> minutes, Set<CronHours> hours, Set<CronDaysOfMonth> daysOfMonth,
+                       Set<CronMonths> months, Set<CronDaysOfWeek> daysOfWeek, Set<CronYears> years) {
+        this.expression = expression;
+        this.seconds = Set.copyOf(seconds);
+        this.minutes = Set.copyOf(minutes);
+        this.hours = Set.copyOf(hours);
+        this.daysOfMonth = Set.copyOf(daysOfMonth);
+        this.months = Set.copyOf(months);
+        this.daysOfWeek = Set.copyOf(daysOfWeek);
+        this.years = Set.copyOf(years);
+        this.compiledCron = CompiledCron.compile(this);
+        this.forwardSearcher = new ForwardSearcher(this);
+        this.backwardSearcher = new BackwardSearcher(this);
+    }
+
+    private CronObject(CronObject cronObject, CompiledCron compiledCron) {
+        this.expression = cronObject.expression;
+        this.seconds = cronObject.seconds;
+        this.minutes = cronObject.minutes;
+        this.hours = cronObject.hours;
+        this.daysOfMonth = cronObject.daysOfMonth;
+        this.months = cronObject.months;
+        this.daysOfWeek = cronObject.daysOfWeek;
+        this.years = cronObject.years;
+        this.compiledCron = compiledCron;
+        this.forwardSearcher = new ForwardSearcher(this);
+        this.backwardSearcher = new BackwardSearcher(this);
+    }
+
+    public CronObject withCompiledCron(CompiledCron compiledCron) {
+        if (compiledCron == this.compiledCron) {
+            return this;
+        }
+        if (!Arrays.equals(compiledCron.encode(), this.compiledCron.encode())) {
+            throw new IllegalArgumentException("Compiled cron does not match expression: " + expression);
+        }
+        return new CronObject(this, compiledCron);
+    }
+
+    public String getExpression() {
+        return expression;
+    }
 
     public Set<CronSeconds> getSeconds() {
         return seconds;
@@ -46,14 +108,103 @@ public class CronObject {
         return years;
     }
 
+    public CompiledCron getCompiledCron() {
+        return compiledCron;
+    }
+
+    public boolean isSatisfiable() {
+        return compiledCron.isSatisfiable();
+    }
+
+    public long getFirstFireEpochSecond() {
+        return compiledCron.getFirstFire();
+    }
+
+    public long getLastFireEpochSecond() {
+        return compiledCron.getLastFire();
+    }
+
+    public ForwardSearcher getForwardSearcher() {
+        return forwardSearcher;
+    }
+
+    public BackwardSearcher getBackwardSearcher() {
+        return backwardSearcher;
+    }
+
     public LocalDateTime nextFireDateTime(LocalDateTime dateTime) {
-        CronSearcher searcher = new ForwardSearcher(this);
-        return searcher.findClosest(dateTime);
+        return forwardSearcher.findClosest(dateTime);
     }
 
     public LocalDateTime previousFireDateTime(LocalDateTime dateTime) {
-        CronSearcher searcher = new BackwardSearcher(this);
-        return searcher.findClosest(dateTime);
+        return backwardSearcher.findClosest(dateTime);
+    }
+
+    public ZonedDateTime nextFireDateTime(ZonedDateTime dateTime) {
+        return forwardSearcher.findClosest(dateTime);
+    }
+
+    public ZonedDateTime previousFireDateTime(ZonedDateTime dateTime) {
+        return backwardSearcher.findClosest(dateTime);
+    }
+
+    public long nextFireEpochSecond(long epochSecond) {
+        return forwardSearcher.findClosest(epochSecond);
+    }
+
+    public long previousFireEpochSecond(long epochSecond) {
+        return backwardSearcher.findClosest(epochSecond);
+    }
+
+    public long nextFire(long epochMillis, ZoneId zone) {
+        long result = forwardSearcher.findClosest(Math.floorDiv(epochMillis + MILLIS_PER_SECOND - 1, MILLIS_PER_SECOND), zone, SHIFT, ONCE);
+        return result == NO_FIRE ? NO_FIRE : result * MILLIS_PER_SECOND;
+    }
+
+    public long previousFire(long epochMillis, ZoneId zone) {
+        long result = backwardSearcher.findClosest(Math.floorDiv(epochMillis, MILLIS_PER_SECOND), zone, SHIFT, ONCE);
+        return result == NO_FIRE ? NO_FIRE : result * MILLIS_PER_SECOND;
+    }
+
+    public long countFires(LocalDateTime from, LocalDateTime to) {
+        return countFires(from.toEpochSecond(ZoneOffset.UTC), to.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    public long countFires(long fromEpochSecond, long toEpochSecond) {
+        return compiledCron.countFires(fromEpochSecond, toEpochSecond);
+    }
+
+    public Stream<LocalDateTime> fireTimes(LocalDateTime dateTime) {
+        return toDateTimes(fireEpochSeconds(dateTime.toEpochSecond(ZoneOffset.UTC)));
+    }
+
+    public Stream<LocalDateTime> fireTimes(LocalDateTime from, LocalDateTime to) {
+        return toDateTimes(fireEpochSeconds(from.toEpochSecond(ZoneOffset.UTC), to.toEpochSecond(ZoneOffset.UTC)));
+    }
+
+    public Stream<LocalDateTime> fireTimesBackward(LocalDateTime dateTime) {
+        return toDateTimes(fireEpochSecondsBackward(dateTime.toEpochSecond(ZoneOffset.UTC)));
+    }
+
+    public LongStream fireEpochSeconds(long epochSecond) {
+        return toStream(FireTimeIterator.forward(forwardSearcher, epochSecond));
+    }
+
+    public LongStream fireEpochSeconds(long fromEpochSecond, long toEpochSecond) {
+        return StreamSupport.longStream(new FireTimeSpliterator(this, fromEpochSecond, toEpochSecond), false);
+    }
+
+    public LongStream fireEpochSecondsBackward(long epochSecond) {
+        return toStream(FireTimeIterator.backward(backwardSearcher, epochSecond));
+    }
+
+    private static LongStream toStream(PrimitiveIterator.OfLong iterator) {
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false);
+    }
+
+    private static Stream<LocalDateTime> toDateTimes(LongStream epochSeconds) {
+        return epochSeconds.mapToObj(epochSecond -> LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
     }
 
 }
@@ -0,0 +1,23 @@
+package com.jw.cronparser.domain;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.jw.cronparser.Parse")
+@Label("Cron Parse")
+@Category("Cron Parser")
+@Description("Parsing of a cron expression")
+@StackTrace(false)
+public final class CronParseEvent extends Event {
+
+    @Label("Expression")
+    String expression;
+
+    @Label("Success")
+    boolean success;
+
+}
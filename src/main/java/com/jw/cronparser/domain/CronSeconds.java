@@ -2,25 +2,13 @@ package com.jw.cronparser.domain;
 
 import static com.jw.cronparser.CronUtils.MAX_SECOND;
 
-import java.util.Arrays;
+import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class CronSeconds implements CronToken {
 
     public static final CronSeconds EVERY = new CronSeconds(0, 1, null);
 
-    private static final String CRON_EVERY = "*";
-    private static final Pattern REGEX_ALL = Pattern.compile("^(\\d+)-(\\d+)/(\\d+)$");
-    private static final Pattern REGEX_RANGE = Pattern.compile("^(\\d+)-(\\d+)$");
-    private static final Pattern REGEX_EVERY = Pattern.compile("^(\\d+)/(\\d+)$");
-    private static final Pattern REGEX_SIMPLE = Pattern.compile("^(\\d+)$");
-    private static final int GROUP_1 = 1;
-    private static final int GROUP_2 = 2;
-    private static final int GROUP_3 = 3;
-
     private final Integer start;
     private final Integer every;
     private final Integer end;
@@ -36,34 +24,7 @@ public class CronSeconds implements CronToken {
     }
 
     public static Set<CronSeconds> parse(String str) {
-        if (str.equals(CRON_EVERY)) {
-            return Set.of(EVERY);
-        }
-        String[] expressions = str.split(",");
-        if (expressions.length > 0) {
-            return Arrays.stream(expressions).map(CronSeconds::parseElement).collect(Collectors.toSet());
-        } else {
-            throw new IllegalArgumentException("Wrong Cron format for seconds: " + str);
-        }
-    }
-
-    private static CronSeconds parseElement(String expression) {
-        Matcher matcherAll = REGEX_ALL.matcher(expression);
-        Matcher matcherEvery = REGEX_EVERY.matcher(expression);
-        Matcher matcherRange = REGEX_RANGE.matcher(expression);
-        Matcher matcherSimple = REGEX_SIMPLE.matcher(expression);
-        if (matcherAll.matches()) {
-            return new CronSeconds(Integer.parseInt(matcherAll.group(GROUP_1)),
-                    Integer.parseInt(matcherAll.group(GROUP_3)), Integer.parseInt(matcherAll.group(GROUP_2)));
-        } else if (matcherEvery.matches()) {
-            return new CronSeconds(Integer.parseInt(matcherEvery.group(GROUP_1)), Integer.parseInt(matcherEvery.group(GROUP_2)), null);
-        } else if (matcherRange.matches()) {
-            return new CronSeconds(Integer.parseInt(matcherRange.group(GROUP_1)), null, Integer.parseInt(matcherRange.group(GROUP_2)));
-        } else if (matcherSimple.matches()) {
-            return new CronSeconds(Integer.parseInt(matcherSimple.group(GROUP_1)), null, null);
-        } else {
-            throw new IllegalArgumentException("Wrong Cron format for seconds: " + expression);
-        }
+        return CronExpressionParser.parseSeconds(str);
     }
 
     public Integer getStart() {
@@ -108,9 +69,9 @@ public class CronSeconds implements CronToken {
             return false;
         }
         CronSeconds cronSeconds = (CronSeconds) o;
-        return start.equals(cronSeconds.start)
-                && every.equals(cronSeconds.every)
-                && end.equals(cronSeconds.end);
+        return Objects.equals(start, cronSeconds.start)
+                && Objects.equals(every, cronSeconds.every)
+                && Objects.equals(end, cronSeconds.end);
     }
 
 }
@@ -0,0 +1,47 @@
+package com.jw.cronparser.forecast;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+import com.jw.cronparser.domain.CronObject;
+
+public final class CronHotspot {
+
+    private final long epochSecond;
+    private final int resolutionSeconds;
+    private final long count;
+    private final Map<CronObject, Long> contributors;
+
+    CronHotspot(long epochSecond, int resolutionSeconds, long count, Map<CronObject, Long> contributors) {
+        this.epochSecond = epochSecond;
+        this.resolutionSeconds = resolutionSeconds;
+        this.count = count;
+        this.contributors = Collections.unmodifiableMap(contributors);
+    }
+
+    public long getEpochSecond() {
+        return epochSecond;
+    }
+
+    public Instant getInstant() {
+        return Instant.ofEpochSecond(epochSecond);
+    }
+
+    public int getResolutionSeconds() {
+        return resolutionSeconds;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Map<CronObject, Long> getContributors() {
+        return contributors;
+    }
+
+    @Override
+    public String toString() {
+        return getInstant() + "=" + count;
+    }
+}
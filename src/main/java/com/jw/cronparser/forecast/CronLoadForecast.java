@@ -0,0 +1,393 @@
+package com.jw.cronparser.forecast;
+
+import static com.jw.cronparser.CronUtils.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.jw.cronparser.domain.CompiledCron;
+import com.jw.cronparser.domain.CronObject;
+
+public final class CronLoadForecast {
+
+    private static final int MAX_BUCKETS = Integer.MAX_VALUE - 8;
+    private static final int SPLIT_WORK = 1 << 16;
+
+    private final Forecast forecast;
+    private final ForkJoinPool pool;
+    private final long fromEpochSecond;
+    private final int resolutionSeconds;
+    private final long[] counts;
+
+    private CronLoadForecast(Forecast forecast, ForkJoinPool pool) {
+        this.forecast = forecast;
+        this.pool = pool;
+        this.fromEpochSecond = forecast.fromEpochSecond;
+        this.resolutionSeconds = forecast.resolutionSeconds;
+        this.counts = forecast.counts;
+    }
+
+    public static CronLoadForecast compute(Collection<CronObject> cronObjects, long fromEpochSecond, long toEpochSecond, int resolutionSeconds) {
+        Forecast forecast = new Forecast(cronObjects, fromEpochSecond, toEpochSecond, resolutionSeconds);
+        forecast.compute();
+        return new CronLoadForecast(forecast, null);
+    }
+
+    public static CronLoadForecast compute(Collection<CronObject> cronObjects, long fromEpochSecond, long toEpochSecond, int resolutionSeconds,
+                                           ForkJoinPool pool) {
+        Forecast forecast = new Forecast(cronObjects, fromEpochSecond, toEpochSecond, resolutionSeconds);
+        pool.invoke(forecast.parallel());
+        return new CronLoadForecast(forecast, pool);
+    }
+
+    public long getFromEpochSecond() {
+        return fromEpochSecond;
+    }
+
+    public long getToEpochSecond() {
+        return fromEpochSecond + (long) counts.length * resolutionSeconds;
+    }
+
+    public int getResolutionSeconds() {
+        return resolutionSeconds;
+    }
+
+    public int size() {
+        return counts.length;
+    }
+
+    public long getCount(int bucket) {
+        return counts[bucket];
+    }
+
+    public long getBucketEpochSecond(int bucket) {
+        return fromEpochSecond + (long) bucket * resolutionSeconds;
+    }
+
+    public long getTotal() {
+        long result = 0;
+        for (long count : counts) {
+            result += count;
+        }
+        return result;
+    }
+
+    public long[] toArray() {
+        return counts.clone();
+    }
+
+    public List<CronHotspot> getHottest(int k) {
+        PriorityQueue<Integer> hottest = new PriorityQueue<>(
+                (a, b) -> counts[a] != counts[b] ? Long.compare(counts[a], counts[b]) : Integer.compare(b, a));
+        for (int bucket = 0; bucket < counts.length && k > 0; bucket++) {
+            if (counts[bucket] == 0) {
+                continue;
+            }
+            if (hottest.size() < k) {
+                hottest.add(bucket);
+            } else if (counts[bucket] > counts[hottest.peek()]) {
+                hottest.poll();
+                hottest.add(bucket);
+            }
+        }
+        int[] buckets = new int[hottest.size()];
+        for (int i = buckets.length - 1; i >= 0; i--) {
+            buckets[i] = hottest.poll();
+        }
+        CronHotspot[] result = new CronHotspot[buckets.length];
+        if (pool == null) {
+            for (int i = 0; i < buckets.length; i++) {
+                result[i] = hotspot(buckets[i]);
+            }
+        } else {
+            pool.invoke(new Hotspots(this, buckets, result, 0, buckets.length));
+        }
+        return Arrays.asList(result);
+    }
+
+    private CronHotspot hotspot(int bucket) {
+        long epochSecond = getBucketEpochSecond(bucket);
+        return new CronHotspot(epochSecond, resolutionSeconds, counts[bucket], forecast.contributors(epochSecond));
+    }
+
+    private static final class Forecast {
+
+        private final CronObject[] cronObjects;
+        private final CompiledCron[] compiledCrons;
+        private final int[] groupOf;
+        private final int[][] members;
+        private final int[][] profileBuckets;
+        private final long[][] profileFires;
+        private final long fromEpochSecond;
+        private final int resolutionSeconds;
+        private final long[] counts;
+        private final long firstDay;
+        private final long lastDay;
+        private final long leafDays;
+
+        private Forecast(Collection<CronObject> cronObjects, long fromEpochSecond, long toEpochSecond, int resolutionSeconds) {
+            if (resolutionSeconds <= 0 || SECONDS_PER_DAY % resolutionSeconds != 0) {
+                throw new IllegalArgumentException("Forecast resolution must divide a day: " + resolutionSeconds);
+            }
+            if (toEpochSecond <= fromEpochSecond) {
+                throw new IllegalArgumentException("Empty forecast horizon: " + fromEpochSecond + " - " + toEpochSecond);
+            }
+            this.fromEpochSecond = fromEpochSecond - Math.floorMod(fromEpochSecond, resolutionSeconds);
+            long buckets = (toEpochSecond - this.fromEpochSecond + resolutionSeconds - 1) / resolutionSeconds;
+            if (buckets > MAX_BUCKETS) {
+                throw new IllegalArgumentException("Forecast horizon too large: " + buckets + " buckets");
+            }
+            this.resolutionSeconds = resolutionSeconds;
+            this.counts = new long[(int) buckets];
+            this.cronObjects = cronObjects.toArray(new CronObject[0]);
+            this.compiledCrons = new CompiledCron[this.cronObjects.length];
+            this.groupOf = new int[this.cronObjects.length];
+            Map<TimeSignature, Integer> groups = new HashMap<>();
+            List<TimeSignature> signatures = new ArrayList<>();
+            for (int i = 0; i < this.cronObjects.length; i++) {
+                compiledCrons[i] = this.cronObjects[i].getCompiledCron();
+                TimeSignature signature = new TimeSignature(compiledCrons[i]);
+                Integer group = groups.putIfAbsent(signature, signatures.size());
+                if (group == null) {
+                    group = signatures.size();
+                    signatures.add(signature);
+                }
+                groupOf[i] = group;
+            }
+            this.members = new int[signatures.size()][];
+            int[] sizes = new int[signatures.size()];
+            for (int group : groupOf) {
+                sizes[group]++;
+            }
+            for (int group = 0; group < members.length; group++) {
+                members[group] = new int[sizes[group]];
+                sizes[group] = 0;
+            }
+            for (int i = 0; i < groupOf.length; i++) {
+                members[groupOf[i]][sizes[groupOf[i]]++] = i;
+            }
+            this.profileBuckets = new int[signatures.size()][];
+            this.profileFires = new long[signatures.size()][];
+            long[] profile = new long[SECONDS_PER_DAY / resolutionSeconds];
+            for (int group = 0; group < signatures.size(); group++) {
+                buildProfile(signatures.get(group), profile, group);
+            }
+            this.firstDay = Math.floorDiv(Math.max(this.fromEpochSecond, MIN_EPOCH_SECOND), SECONDS_PER_DAY);
+            this.lastDay = Math.floorDiv(Math.min(getToEpochSecond() - 1, MAX_EPOCH_SECOND), SECONDS_PER_DAY);
+            this.leafDays = Math.max(1, SPLIT_WORK / Math.max(1, compiledCrons.length));
+        }
+
+        private long getToEpochSecond() {
+            return fromEpochSecond + (long) counts.length * resolutionSeconds;
+        }
+
+        private void buildProfile(TimeSignature signature, long[] profile, int group) {
+            int size = 0;
+            for (int hour = 0; hour <= MAX_HOUR; hour++) {
+                if ((signature.hours & 1 << hour) == 0) {
+                    continue;
+                }
+                for (int minute = 0; minute <= MAX_MINUTE; minute++) {
+                    if ((signature.minutes & 1L << minute) == 0) {
+                        continue;
+                    }
+                    int minuteOfDay = hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE;
+                    for (long seconds = signature.seconds; seconds != 0; seconds &= seconds - 1) {
+                        int bucket = (minuteOfDay + Long.numberOfTrailingZeros(seconds)) / resolutionSeconds;
+                        size += profile[bucket] == 0 ? 1 : 0;
+                        profile[bucket]++;
+                    }
+                }
+            }
+            int[] buckets = new int[size];
+            long[] fires = new long[size];
+            int position = 0;
+            for (int bucket = 0; position < size; bucket++) {
+                if (profile[bucket] != 0) {
+                    buckets[position] = bucket;
+                    fires[position++] = profile[bucket];
+                    profile[bucket] = 0;
+                }
+            }
+            profileBuckets[group] = buckets;
+            profileFires[group] = fires;
+        }
+
+        private void compute() {
+            if (firstDay <= lastDay) {
+                computeDays(firstDay, lastDay + 1);
+            }
+        }
+
+        private RecursiveAction parallel() {
+            return new Days(this, firstDay, lastDay + 1);
+        }
+
+        private void computeDays(long fromDay, long toDay) {
+            int[] weights = new int[profileBuckets.length];
+            int bucketsPerDay = SECONDS_PER_DAY / resolutionSeconds;
+            for (long epochDay = fromDay; epochDay < toDay; epochDay++) {
+                int date = toPackedDate(epochDay);
+                int year = packedYear(date);
+                int month = packedMonth(date);
+                int day = packedDay(date);
+                Arrays.fill(weights, 0);
+                for (int i = 0; i < compiledCrons.length; i++) {
+                    if (firesOn(compiledCrons[i], year, month, day)) {
+                        weights[groupOf[i]]++;
+                    }
+                }
+                long base = (epochDay * SECONDS_PER_DAY - fromEpochSecond) / resolutionSeconds;
+                int from = (int) Math.max(0, -base);
+                int to = (int) Math.min(bucketsPerDay, counts.length - base);
+                for (int group = 0; group < weights.length; group++) {
+                    int weight = weights[group];
+                    if (weight == 0) {
+                        continue;
+                    }
+                    int[] buckets = profileBuckets[group];
+                    long[] fires = profileFires[group];
+                    for (int j = 0; j < buckets.length; j++) {
+                        if (buckets[j] >= from && buckets[j] < to) {
+                            counts[(int) (base + buckets[j])] += weight * fires[j];
+                        }
+                    }
+                }
+            }
+        }
+
+        private Map<CronObject, Long> contributors(long epochSecond) {
+            long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+            int bucketOfDay = (int) (epochSecond - epochDay * SECONDS_PER_DAY) / resolutionSeconds;
+            int date = toPackedDate(epochDay);
+            int year = packedYear(date);
+            int month = packedMonth(date);
+            int day = packedDay(date);
+            Map<CronObject, Long> result = new LinkedHashMap<>();
+            for (int group = 0; group < members.length; group++) {
+                int j = Arrays.binarySearch(profileBuckets[group], bucketOfDay);
+                if (j < 0) {
+                    continue;
+                }
+                for (int i : members[group]) {
+                    if (firesOn(compiledCrons[i], year, month, day)) {
+                        result.merge(cronObjects[i], profileFires[group][j], Long::sum);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static boolean firesOn(CompiledCron compiledCron, int year, int month, int day) {
+            return compiledCron.hasYear(year) && compiledCron.hasMonth(month) && CompiledCron.hasDay(compiledCron.daysOfMonth(year, month), day);
+        }
+    }
+
+    private static final class Days extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Forecast forecast;
+        private final long fromDay;
+        private final long toDay;
+
+        private Days(Forecast forecast, long fromDay, long toDay) {
+            this.forecast = forecast;
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+        }
+
+        @Override
+        protected void compute() {
+            if (toDay - fromDay > forecast.leafDays) {
+                long middle = (fromDay + toDay) >>> 1;
+                invokeAll(new Days(forecast, fromDay, middle), new Days(forecast, middle, toDay));
+                return;
+            }
+            if (fromDay < toDay) {
+                forecast.computeDays(fromDay, toDay);
+            }
+        }
+    }
+
+    private static final class Hotspots extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final CronLoadForecast forecast;
+        private final int[] buckets;
+        private final CronHotspot[] result;
+        private final int from;
+        private final int to;
+
+        private Hotspots(CronLoadForecast forecast, int[] buckets, CronHotspot[] result, int from, int to) {
+            this.forecast = forecast;
+            this.buckets = buckets;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Hotspots(forecast, buckets, result, from, middle), new Hotspots(forecast, buckets, result, middle, to));
+                return;
+            }
+            if (from < to) {
+                result[from] = forecast.hotspot(buckets[from]);
+            }
+        }
+    }
+
+    private static final class TimeSignature {
+
+        private final long seconds;
+        private final long minutes;
+        private final int hours;
+
+        private TimeSignature(CompiledCron compiledCron) {
+            long secondMask = 0;
+            for (int second = 0; second <= MAX_SECOND; second++) {
+                secondMask |= compiledCron.hasSecond(second) ? 1L << second : 0;
+            }
+            long minuteMask = 0;
+            for (int minute = 0; minute <= MAX_MINUTE; minute++) {
+                minuteMask |= compiledCron.hasMinute(minute) ? 1L << minute : 0;
+            }
+            int hourMask = 0;
+            for (int hour = 0; hour <= MAX_HOUR; hour++) {
+                hourMask |= compiledCron.hasHour(hour) ? 1 << hour : 0;
+            }
+            this.seconds = secondMask;
+            this.minutes = minuteMask;
+            this.hours = hourMask;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TimeSignature)) {
+                return false;
+            }
+            TimeSignature other = (TimeSignature) o;
+            return seconds == other.seconds && minutes == other.minutes && hours == other.hours;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(seconds * 31 + minutes) * 31 + hours;
+        }
+    }
+}
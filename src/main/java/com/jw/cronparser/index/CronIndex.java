@@ -0,0 +1,206 @@
+package com.jw.cronparser.index;
+
+import static com.jw.cronparser.CronUtils.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import com.jw.cronparser.domain.CompiledCron;
+import com.jw.cronparser.domain.CronObject;
+
+public final class CronIndex {
+
+    private static final int[] NO_MATCHES = new int[0];
+
+    private final CronObject[] cronObjects;
+    private final int words;
+    private final long[][] seconds;
+    private final long[][] minutes;
+    private final long[][] hours;
+    private volatile MonthPostings monthPostings;
+    private volatile Postings hourPostings;
+    private volatile Postings minutePostings;
+
+    public CronIndex(List<CronObject> cronObjects) {
+        this.cronObjects = cronObjects.toArray(new CronObject[0]);
+        this.words = (this.cronObjects.length + Long.SIZE - 1) / Long.SIZE;
+        this.seconds = new long[MAX_SECOND + 1][words];
+        this.minutes = new long[MAX_MINUTE + 1][words];
+        this.hours = new long[MAX_HOUR + 1][words];
+        for (int id = 0; id < this.cronObjects.length; id++) {
+            CompiledCron compiledCron = this.cronObjects[id].getCompiledCron();
+            for (int second = 0; second <= MAX_SECOND; second++) {
+                if (compiledCron.hasSecond(second)) {
+                    seconds[second][id >>> 6] |= 1L << id;
+                }
+            }
+            for (int minute = 0; minute <= MAX_MINUTE; minute++) {
+                if (compiledCron.hasMinute(minute)) {
+                    minutes[minute][id >>> 6] |= 1L << id;
+                }
+            }
+            for (int hour = 0; hour <= MAX_HOUR; hour++) {
+                if (compiledCron.hasHour(hour)) {
+                    hours[hour][id >>> 6] |= 1L << id;
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return cronObjects.length;
+    }
+
+    public CronObject get(int id) {
+        return cronObjects[id];
+    }
+
+    public int[] matching(LocalDateTime dateTime) {
+        return matching(dateTime.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    public int[] matching(long epochSecond) {
+        Postings postings = minutePostings(Math.floorDiv(epochSecond, SECONDS_PER_MINUTE));
+        if (postings.count == 0) {
+            return NO_MATCHES;
+        }
+        long[] secondPostings = seconds[Math.floorMod(epochSecond, SECONDS_PER_MINUTE)];
+        int count = 0;
+        for (int i = 0; i < postings.count; i++) {
+            count += Long.bitCount(postings.words[i] & secondPostings[postings.indexes[i]]);
+        }
+        int[] result = new int[count];
+        int position = 0;
+        for (int i = 0; i < postings.count; i++) {
+            int base = postings.indexes[i] << 6;
+            for (long word = postings.words[i] & secondPostings[postings.indexes[i]]; word != 0; word &= word - 1) {
+                result[position++] = base + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return result;
+    }
+
+    public void forEachMatching(long epochSecond, IntConsumer consumer) {
+        Postings postings = minutePostings(Math.floorDiv(epochSecond, SECONDS_PER_MINUTE));
+        long[] secondPostings = seconds[Math.floorMod(epochSecond, SECONDS_PER_MINUTE)];
+        for (int i = 0; i < postings.count; i++) {
+            int base = postings.indexes[i] << 6;
+            for (long word = postings.words[i] & secondPostings[postings.indexes[i]]; word != 0; word &= word - 1) {
+                consumer.accept(base + Long.numberOfTrailingZeros(word));
+            }
+        }
+    }
+
+    private Postings minutePostings(long epochMinute) {
+        Postings current = minutePostings;
+        if (current == null || current.key != epochMinute) {
+            Postings hourly = hourPostings(Math.floorDiv(epochMinute, SECONDS_PER_HOUR / SECONDS_PER_MINUTE));
+            current = hourly.and(minutes[Math.floorMod(epochMinute, SECONDS_PER_HOUR / SECONDS_PER_MINUTE)], epochMinute);
+            minutePostings = current;
+        }
+        return current;
+    }
+
+    private Postings hourPostings(long epochHour) {
+        Postings current = hourPostings;
+        if (current == null || current.key != epochHour) {
+            long epochSecond = epochHour * SECONDS_PER_HOUR;
+            if (epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND) {
+                current = Postings.empty(epochHour);
+            } else {
+                int date = toPackedDate(Math.floorDiv(epochSecond, SECONDS_PER_DAY));
+                long[] dayPostings = monthPostings(packedYear(date), packedMonth(date)).days[packedDay(date) - 1];
+                current = Postings.of(dayPostings, hours[Math.floorMod(epochHour, SECONDS_PER_DAY / SECONDS_PER_HOUR)], epochHour);
+            }
+            hourPostings = current;
+        }
+        return current;
+    }
+
+    private MonthPostings monthPostings(int year, int month) {
+        MonthPostings current = monthPostings;
+        if (current == null || current.year != year || current.month != month) {
+            long[][] days = new long[MAX_DAY_OF_MONTH][words];
+            for (int id = 0; id < cronObjects.length; id++) {
+                CompiledCron compiledCron = cronObjects[id].getCompiledCron();
+                if (!compiledCron.hasYear(year) || !compiledCron.hasMonth(month)) {
+                    continue;
+                }
+                for (int mask = compiledCron.resolveDaysOfMonth(year, month); mask != 0; mask &= mask - 1) {
+                    days[Integer.numberOfTrailingZeros(mask)][id >>> 6] |= 1L << id;
+                }
+            }
+            current = new MonthPostings(year, month, days);
+            monthPostings = current;
+        }
+        return current;
+    }
+
+    private static final class MonthPostings {
+
+        private final int year;
+        private final int month;
+        private final long[][] days;
+
+        private MonthPostings(int year, int month, long[][] days) {
+            this.year = year;
+            this.month = month;
+            this.days = days;
+        }
+    }
+
+    private static final class Postings {
+
+        private final long key;
+        private final int[] indexes;
+        private final long[] words;
+        private final int count;
+
+        private Postings(long key, int[] indexes, long[] words, int count) {
+            this.key = key;
+            this.indexes = indexes;
+            this.words = words;
+            this.count = count;
+        }
+
+        private static Postings empty(long key) {
+            return new Postings(key, new int[0], new long[0], 0);
+        }
+
+        private static Postings of(long[] first, long[] second, long key) {
+            int count = 0;
+            for (int i = 0; i < first.length; i++) {
+                if ((first[i] & second[i]) != 0) {
+                    count++;
+                }
+            }
+            int[] indexes = new int[count];
+            long[] words = new long[count];
+            int position = 0;
+            for (int i = 0; i < first.length; i++) {
+                long word = first[i] & second[i];
+                if (word != 0) {
+                    indexes[position] = i;
+                    words[position++] = word;
+                }
+            }
+            return new Postings(key, indexes, words, count);
+        }
+
+        private Postings and(long[] bitmap, long key) {
+            int[] resultIndexes = new int[count];
+            long[] resultWords = new long[count];
+            int position = 0;
+            for (int i = 0; i < count; i++) {
+                long word = words[i] & bitmap[indexes[i]];
+                if (word != 0) {
+                    resultIndexes[position] = indexes[i];
+                    resultWords[position++] = word;
+                }
+            }
+            return new Postings(key, resultIndexes, resultWords, position);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.jw.cronparser.loader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+public class CronBulkLoader {
+
+    private static final int DEFAULT_CHUNK_SIZE = 4096;
+    private static final int DEFAULT_PARSER_CACHE_SIZE = 1024;
+    private static final int CHUNKS_PER_WORKER = 2;
+    private static final char SEPARATOR = '\t';
+    private static final char COMMENT = '#';
+
+    private final Executor executor;
+    private final int parallelism;
+    private final int chunkSize;
+
+    public CronBulkLoader() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public CronBulkLoader(Executor executor, int parallelism, int chunkSize) {
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("Wrong loader configuration: parallelism=" + parallelism + ", chunkSize=" + chunkSize);
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    public CronLoadResult load(Path path, CronLoadSink sink) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return load(reader, sink);
+        }
+    }
+
+    public CronLoadResult load(BufferedReader reader, CronLoadSink sink) throws IOException {
+        Load load = new Load(sink);
+        long lineNumber = 0;
+        try {
+            String[] chunk = new String[chunkSize];
+            int count = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                chunk[count++] = line;
+                lineNumber++;
+                if (count == chunkSize) {
+                    load.submit(chunk, count, lineNumber - count + 1);
+                    chunk = new String[chunkSize];
+                    count = 0;
+                }
+            }
+            if (count > 0) {
+                load.submit(chunk, count, lineNumber - count + 1);
+            }
+        } catch (Throwable e) {
+            load.await(e);
+            throw e;
+        }
+        load.await();
+        return new CronLoadResult(lineNumber, load.loaded.sum(), load.rejected.sum());
+    }
+
+    private final class Load {
+
+        private final CronLoadSink sink;
+        private final CronParser parser = new CronParser(DEFAULT_PARSER_CACHE_SIZE);
+        private final Semaphore permits = new Semaphore(parallelism * CHUNKS_PER_WORKER);
+        private final Phaser pending = new Phaser(1);
+        private final LongAdder loaded = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private Load(CronLoadSink sink) {
+            this.sink = sink;
+        }
+
+        private void submit(String[] lines, int count, long firstLineNumber) throws IOException {
+            rethrowFailure();
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while loading cron expressions");
+            }
+            pending.register();
+            try {
+                executor.execute(() -> run(lines, count, firstLineNumber));
+            } catch (RejectedExecutionException e) {
+                pending.arriveAndDeregister();
+                permits.release();
+                throw e;
+            }
+        }
+
+        private void run(String[] lines, int count, long firstLineNumber) {
+            try {
+                parse(lines, count, firstLineNumber);
+            } catch (RuntimeException | Error e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                permits.release();
+                pending.arriveAndDeregister();
+            }
+        }
+
+        private void parse(String[] lines, int count, long firstLineNumber) {
+            for (int i = 0; i < count && failure.get() == null; i++) {
+                String line = lines[i];
+                if (line.isBlank() || line.charAt(0) == COMMENT) {
+                    continue;
+                }
+                int separator = line.indexOf(SEPARATOR);
+                if (separator < 0) {
+                    rejected.increment();
+                    sink.reject(firstLineNumber + i, line, "Missing tab separator: " + line);
+                    continue;
+                }
+                CronObject cronObject;
+                try {
+                    cronObject = parser.parse(line.substring(separator + 1));
+                } catch (IllegalArgumentException e) {
+                    rejected.increment();
+                    sink.reject(firstLineNumber + i, line, e.getMessage());
+                    continue;
+                }
+                loaded.increment();
+                sink.accept(line.substring(0, separator), cronObject);
+            }
+        }
+
+        private void await() {
+            pending.arriveAndAwaitAdvance();
+            rethrowFailure();
+        }
+
+        private void await(Throwable cause) {
+            pending.arriveAndAwaitAdvance();
+            Throwable e = failure.get();
+            if (e != null && e != cause) {
+                cause.addSuppressed(e);
+            }
+        }
+
+        private void rethrowFailure() {
+            Throwable e = failure.get();
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.jw.cronparser.loader;
+
+public final class CronLoadResult {
+
+    private final long lines;
+    private final long loaded;
+    private final long rejected;
+
+    CronLoadResult(long lines, long loaded, long rejected) {
+        this.lines = lines;
+        this.loaded = loaded;
+        this.rejected = rejected;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getLoaded() {
+        return loaded;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    @Override
+    public String toString() {
+        return "CronLoadResult{lines=" + lines + ", loaded=" + loaded + ", rejected=" + rejected + "}";
+    }
+}
@@ -0,0 +1,15 @@
+package com.jw.cronparser.loader;
+
+import com.jw.cronparser.domain.CronObject;
+
+/**
+ * Receives the outcome of every expression line. {@link CronBulkLoader} calls it concurrently from its worker threads, so
+ * implementations must be thread-safe.
+ */
+public interface CronLoadSink {
+
+    void accept(String id, CronObject cronObject);
+
+    void reject(long lineNumber, String line, String message);
+
+}
@@ -0,0 +1,219 @@
+package com.jw.cronparser.scheduler;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jw.cronparser.domain.CronObject;
+
+public class CronPublisher implements Flow.Publisher<FireEvent> {
+
+    private final CronScheduler scheduler;
+    private final CronObject[] cronObjects;
+    private final MissedFirePolicy policy;
+
+    public CronPublisher(CronScheduler scheduler, CronObject cronObject, MissedFirePolicy policy) {
+        this(scheduler, List.of(cronObject), policy);
+    }
+
+    public CronPublisher(CronScheduler scheduler, Collection<CronObject> cronObjects, MissedFirePolicy policy) {
+        this.scheduler = scheduler;
+        this.cronObjects = cronObjects.toArray(new CronObject[0]);
+        this.policy = policy;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super FireEvent> subscriber) {
+        Objects.requireNonNull(subscriber);
+        CronSubscription subscription = new CronSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    private final class CronSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super FireEvent> subscriber;
+        private final CronTask[] tasks = new CronTask[cronObjects.length];
+        private final long[] missedFires = new long[cronObjects.length];
+        private final long[] missedCounts = new long[cronObjects.length];
+        private final Queue<FireEvent> ready = new ArrayDeque<>();
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final long now;
+        private long requested;
+        private int remaining;
+        private Throwable error;
+        private boolean cancelled;
+
+        private CronSubscription(Flow.Subscriber<? super FireEvent> subscriber) {
+            this.subscriber = subscriber;
+            this.now = scheduler.currentEpochSecond();
+            Arrays.fill(missedFires, NO_FIRE);
+        }
+
+        private void start() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                try {
+                    scheduler.start();
+                } catch (IllegalStateException e) {
+                    error = e;
+                }
+                for (int i = 0; i < cronObjects.length && error == null; i++) {
+                    if (scheduler.nextFireEpochSecond(cronObjects[i], now + 1) != NO_FIRE) {
+                        remaining++;
+                        int index = i;
+                        tasks[i] = scheduler.schedule(cronObjects[i], epochSecond -> onFire(index, epochSecond));
+                    }
+                }
+            }
+            execute();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                if (n <= 0) {
+                    error = new IllegalArgumentException("Non-positive subscription request: " + n);
+                } else {
+                    requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+                    flushMissedFires();
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                ready.clear();
+            }
+            for (CronTask task : tasks) {
+                if (task != null) {
+                    task.cancel();
+                }
+            }
+        }
+
+        private void onFire(int index, long epochSecond) {
+            boolean last = scheduler.nextFireEpochSecond(cronObjects[index], epochSecond + 1) == NO_FIRE;
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                if (requested > 0) {
+                    requested--;
+                    ready.add(new FireEvent(cronObjects[index], epochSecond, missedCounts[index]));
+                    missedCounts[index] = 0;
+                } else if (policy == MissedFirePolicy.COALESCE) {
+                    if (missedFires[index] != NO_FIRE) {
+                        missedCounts[index]++;
+                    }
+                    missedFires[index] = epochSecond;
+                } else {
+                    missedCounts[index]++;
+                }
+                if (last) {
+                    remaining--;
+                }
+            }
+            drain();
+        }
+
+        private void flushMissedFires() {
+            while (requested > 0) {
+                int oldest = -1;
+                for (int i = 0; i < missedFires.length; i++) {
+                    if (missedFires[i] != NO_FIRE && (oldest < 0 || missedFires[i] < missedFires[oldest])) {
+                        oldest = i;
+                    }
+                }
+                if (oldest < 0) {
+                    return;
+                }
+                requested--;
+                ready.add(new FireEvent(cronObjects[oldest], missedFires[oldest], missedCounts[oldest]));
+                missedFires[oldest] = NO_FIRE;
+                missedCounts[oldest] = 0;
+            }
+        }
+
+        private boolean hasMissedFires() {
+            for (long missedFire : missedFires) {
+                if (missedFire != NO_FIRE) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void drain() {
+            if (pending.getAndIncrement() == 0) {
+                execute();
+            }
+        }
+
+        private void execute() {
+            try {
+                scheduler.getExecutor().execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                cancel();
+            }
+        }
+
+        private void deliver() {
+            int missed = 1;
+            do {
+                while (true) {
+                    FireEvent event;
+                    Throwable failure;
+                    boolean complete;
+                    synchronized (this) {
+                        if (cancelled) {
+                            return;
+                        }
+                        failure = error;
+                        event = failure == null ? ready.poll() : null;
+                        complete = failure == null && event == null && remaining == 0 && !hasMissedFires();
+                    }
+                    if (failure != null) {
+                        cancel();
+                        subscriber.onError(failure);
+                        return;
+                    }
+                    if (complete) {
+                        cancel();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (event == null) {
+                        break;
+                    }
+                    try {
+                        subscriber.onNext(event);
+                    } catch (RuntimeException e) {
+                        cancel();
+                        return;
+                    }
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.jw.cronparser.scheduler;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.jw.cronparser.domain.CronObject;
+
+public class CronScheduledExecutorService implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final CronScheduler scheduler;
+    private volatile boolean shutdown;
+
+    public CronScheduledExecutorService() {
+        this(TaskExecutors.newTaskExecutor());
+    }
+
+    public CronScheduledExecutorService(ExecutorService executor) {
+        this.executor = executor;
+        this.scheduler = new CronScheduler(executor);
+    }
+
+    public synchronized CronTask schedule(CronObject cronObject, Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        scheduler.start();
+        return scheduler.schedule(cronObject, command);
+    }
+
+    public synchronized void shutdown() {
+        shutdown = true;
+        scheduler.shutdown();
+        executor.shutdown();
+    }
+
+    public synchronized List<Runnable> shutdownNow() {
+        shutdown = true;
+        scheduler.shutdown();
+        return executor.shutdownNow();
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    public boolean isTerminated() {
+        return shutdown && executor.isTerminated();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+        boolean interrupted = false;
+        while (!isTerminated()) {
+            try {
+                awaitTermination(1, TimeUnit.DAYS);
+            } catch (InterruptedException e) {
+                if (!interrupted) {
+                    shutdownNow();
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return TaskExecutors.isVirtual();
+    }
+}
@@ -0,0 +1,145 @@
+package com.jw.cronparser.scheduler;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+
+import java.time.Clock;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+import com.jw.cronparser.domain.CronObject;
+import com.jw.cronparser.searcher.DstGapPolicy;
+import com.jw.cronparser.searcher.DstOverlapPolicy;
+
+public class CronScheduler {
+
+    private static final long MILLIS_PER_SECOND = 1000;
+
+    private final Executor executor;
+    private final Clock clock;
+    private final TimingWheel wheel;
+    private final Queue<CronTask> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<CronTask> cancelled = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private volatile boolean running;
+    private boolean shutdown;
+
+    public CronScheduler(Executor executor) {
+        this(executor, Clock.systemUTC());
+    }
+
+    public CronScheduler(Executor executor, Clock clock) {
+        this.executor = executor;
+        this.clock = clock;
+        this.wheel = new TimingWheel(currentEpochSecond());
+        this.worker = new Thread(this::run, "cron-scheduler");
+        this.worker.setDaemon(true);
+    }
+
+    public CronTask schedule(CronObject cronObject, Runnable command) {
+        CronTask task = new CronTask(this, cronObject, command);
+        scheduled.add(task);
+        return task;
+    }
+
+    CronTask schedule(CronObject cronObject, LongConsumer listener) {
+        CronTask task = new CronTask(this, cronObject, listener);
+        scheduled.add(task);
+        return task;
+    }
+
+    public synchronized void start() {
+        if (shutdown) {
+            throw new IllegalStateException("Cron scheduler has been shut down");
+        }
+        if (!running) {
+            running = true;
+            worker.start();
+        }
+    }
+
+    public synchronized void shutdown() {
+        shutdown = true;
+        running = false;
+        worker.interrupt();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    void cancel(CronTask task) {
+        cancelled.add(task);
+    }
+
+    Executor getExecutor() {
+        return executor;
+    }
+
+    private void run() {
+        while (running) {
+            tick(currentEpochSecond());
+            long millis = clock.millis();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(MILLIS_PER_SECOND - Math.floorMod(millis, MILLIS_PER_SECOND)));
+        }
+    }
+
+    private void tick(long epochSecond) {
+        drainCancelled();
+        drainScheduled();
+        while (wheel.getCurrent() < epochSecond) {
+            wheel.advance(this::fire);
+        }
+    }
+
+    private void drainScheduled() {
+        for (CronTask task = scheduled.poll(); task != null; task = scheduled.poll()) {
+            if (!task.isCancelled()) {
+                arm(task, wheel.getCurrent() + 1);
+            }
+        }
+    }
+
+    private void drainCancelled() {
+        for (CronTask task = cancelled.poll(); task != null; task = cancelled.poll()) {
+            wheel.remove(task);
+        }
+    }
+
+    private void fire(CronTask task) {
+        if (task.isCancelled()) {
+            return;
+        }
+        long deadline = task.getDeadline();
+        arm(task, deadline + 1);
+        if (task.getListener() != null) {
+            task.getListener().accept(deadline);
+            return;
+        }
+        try {
+            executor.execute(task.getCommand());
+        } catch (RejectedExecutionException e) {
+            task.cancel();
+        }
+    }
+
+    private void arm(CronTask task, long from) {
+        long next = nextFireEpochSecond(task.getCronObject(), from);
+        if (next != NO_FIRE) {
+            task.setDeadline(next);
+            wheel.add(task);
+        }
+    }
+
+    long nextFireEpochSecond(CronObject cronObject, long epochSecond) {
+        return cronObject.getForwardSearcher().findClosest(epochSecond, clock.getZone(), DstGapPolicy.SHIFT, DstOverlapPolicy.ONCE);
+    }
+
+    long currentEpochSecond() {
+        return Math.floorDiv(clock.millis(), MILLIS_PER_SECOND);
+    }
+}
@@ -0,0 +1,68 @@
+package com.jw.cronparser.scheduler;
+
+import java.util.function.LongConsumer;
+
+import com.jw.cronparser.domain.CronObject;
+
+public class CronTask {
+
+    private final CronScheduler scheduler;
+    private final CronObject cronObject;
+    private final Runnable command;
+    private final LongConsumer listener;
+    private volatile boolean cancelled;
+    private volatile long deadline;
+
+    long rounds;
+    CronTask previous;
+    CronTask next;
+    TimingWheel.Bucket bucket;
+
+    CronTask(CronScheduler scheduler, CronObject cronObject, Runnable command) {
+        this(scheduler, cronObject, command, null);
+    }
+
+    CronTask(CronScheduler scheduler, CronObject cronObject, LongConsumer listener) {
+        this(scheduler, cronObject, null, listener);
+    }
+
+    private CronTask(CronScheduler scheduler, CronObject cronObject, Runnable command, LongConsumer listener) {
+        this.scheduler = scheduler;
+        this.cronObject = cronObject;
+        this.command = command;
+        this.listener = listener;
+    }
+
+    public boolean cancel() {
+        if (cancelled) {
+            return false;
+        }
+        cancelled = true;
+        scheduler.cancel(this);
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long getDeadline() {
+        return deadline;
+    }
+
+    CronObject getCronObject() {
+        return cronObject;
+    }
+
+    Runnable getCommand() {
+        return command;
+    }
+
+    LongConsumer getListener() {
+        return listener;
+    }
+
+    void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+}
@@ -0,0 +1,39 @@
+package com.jw.cronparser.scheduler;
+
+import java.time.Instant;
+
+import com.jw.cronparser.domain.CronObject;
+
+public final class FireEvent {
+
+    private final CronObject cronObject;
+    private final long epochSecond;
+    private final long missedCount;
+
+    FireEvent(CronObject cronObject, long epochSecond, long missedCount) {
+        this.cronObject = cronObject;
+        this.epochSecond = epochSecond;
+        this.missedCount = missedCount;
+    }
+
+    public CronObject getCronObject() {
+        return cronObject;
+    }
+
+    public long getEpochSecond() {
+        return epochSecond;
+    }
+
+    public Instant getInstant() {
+        return Instant.ofEpochSecond(epochSecond);
+    }
+
+    public long getMissedCount() {
+        return missedCount;
+    }
+
+    @Override
+    public String toString() {
+        return cronObject.getExpression() + "@" + getInstant() + (missedCount > 0 ? " (missed " + missedCount + ")" : "");
+    }
+}
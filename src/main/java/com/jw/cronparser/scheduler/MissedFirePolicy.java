@@ -0,0 +1,8 @@
+package com.jw.cronparser.scheduler;
+
+public enum MissedFirePolicy {
+
+    DROP,
+    COALESCE
+
+}
@@ -0,0 +1,19 @@
+package com.jw.cronparser.scheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+final class TaskExecutors {
+
+    private TaskExecutors() {
+
+    }
+
+    static boolean isVirtual() {
+        return false;
+    }
+
+    static ExecutorService newTaskExecutor() {
+        return Executors.newCachedThreadPool();
+    }
+}
@@ -0,0 +1,143 @@
+package com.jw.cronparser.scheduler;
+
+import static com.jw.cronparser.CronUtils.*;
+
+import java.util.function.Consumer;
+
+class TimingWheel {
+
+    private static final int SECOND_SLOTS = 60;
+    private static final int MINUTE_SLOTS = 60;
+    private static final int HOUR_SLOTS = 24;
+    private static final int DAY_SLOTS = 366;
+    private static final long DAY_WHEEL_SPAN = (long) DAY_SLOTS * SECONDS_PER_DAY;
+
+    private final Bucket[] seconds = buckets(SECOND_SLOTS);
+    private final Bucket[] minutes = buckets(MINUTE_SLOTS);
+    private final Bucket[] hours = buckets(HOUR_SLOTS);
+    private final Bucket[] days = buckets(DAY_SLOTS);
+    private long current;
+    private int size;
+
+    TimingWheel(long current) {
+        this.current = current;
+    }
+
+    long getCurrent() {
+        return current;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(CronTask task) {
+        place(task, Math.max(task.getDeadline(), current + 1));
+        size++;
+    }
+
+    void remove(CronTask task) {
+        if (task.bucket != null) {
+            task.bucket.remove(task);
+            size--;
+        }
+    }
+
+    void advance(Consumer<CronTask> expired) {
+        long now = ++current;
+        if (Math.floorMod(now, SECONDS_PER_DAY) == 0) {
+            cascade(days[Math.floorMod(Math.floorDiv(now, SECONDS_PER_DAY), DAY_SLOTS)]);
+        }
+        if (Math.floorMod(now, SECONDS_PER_HOUR) == 0) {
+            cascade(hours[Math.floorMod(Math.floorDiv(now, SECONDS_PER_HOUR), HOUR_SLOTS)]);
+        }
+        if (Math.floorMod(now, SECONDS_PER_MINUTE) == 0) {
+            cascade(minutes[Math.floorMod(Math.floorDiv(now, SECONDS_PER_MINUTE), MINUTE_SLOTS)]);
+        }
+        CronTask task = seconds[Math.floorMod(now, SECOND_SLOTS)].detach();
+        while (task != null) {
+            CronTask next = task.next;
+            task.next = null;
+            size--;
+            expired.accept(task);
+            task = next;
+        }
+    }
+
+    private void cascade(Bucket bucket) {
+        CronTask task = bucket.detach();
+        while (task != null) {
+            CronTask next = task.next;
+            task.next = null;
+            if (task.rounds > 0) {
+                task.rounds--;
+                bucket.add(task);
+            } else {
+                place(task, task.getDeadline());
+            }
+            task = next;
+        }
+    }
+
+    private void place(CronTask task, long due) {
+        long delta = due - current;
+        if (delta < SECONDS_PER_MINUTE) {
+            seconds[Math.floorMod(due, SECOND_SLOTS)].add(task);
+        } else if (delta < SECONDS_PER_HOUR) {
+            minutes[Math.floorMod(Math.floorDiv(due, SECONDS_PER_MINUTE), MINUTE_SLOTS)].add(task);
+        } else if (delta < SECONDS_PER_DAY) {
+            hours[Math.floorMod(Math.floorDiv(due, SECONDS_PER_HOUR), HOUR_SLOTS)].add(task);
+        } else {
+            long day = Math.floorDiv(due, SECONDS_PER_DAY);
+            task.rounds = (day * SECONDS_PER_DAY - current - 1) / DAY_WHEEL_SPAN;
+            days[Math.floorMod(day, DAY_SLOTS)].add(task);
+        }
+    }
+
+    private static Bucket[] buckets(int count) {
+        Bucket[] result = new Bucket[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new Bucket();
+        }
+        return result;
+    }
+
+    static final class Bucket {
+
+        private CronTask head;
+
+        private void add(CronTask task) {
+            task.bucket = this;
+            task.previous = null;
+            task.next = head;
+            if (head != null) {
+                head.previous = task;
+            }
+            head = task;
+        }
+
+        private void remove(CronTask task) {
+            if (task.previous != null) {
+                task.previous.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.previous = task.previous;
+            }
+            task.previous = null;
+            task.next = null;
+            task.bucket = null;
+        }
+
+        private CronTask detach() {
+            CronTask result = head;
+            head = null;
+            for (CronTask task = result; task != null; task = task.next) {
+                task.bucket = null;
+                task.previous = null;
+            }
+            return result;
+        }
+    }
+}
@@ -2,397 +2,256 @@ package com.jw.cronparser.searcher;
 
 import static com.jw.cronparser.CronUtils.*;
 
-import java.time.DayOfWeek;
+import java.nio.LongBuffer;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.Month;
-import java.time.Year;
-import java.util.Collection;
-import java.util.OptionalInt;
-import java.util.Set;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 
+import com.jw.cronparser.CronZone;
 import com.jw.cronparser.domain.*;
 
 public class BackwardSearcher implements CronSearcher {
 
-    private final CronObject cronObject;
+    private final CompiledCron compiledCron;
+    private final LongBuffer words;
+    private final String expression;
 
     public BackwardSearcher(CronObject cronObject) {
-        this.cronObject = cronObject;
+        this(cronObject.getCompiledCron(), cronObject.getExpression());
     }
 
-    public LocalDateTime findClosest(LocalDateTime dateTime) {
-        var result = backwardChainYear(dateTime);
-        if (result != null) {
-            return result.withNano(0);
-        }
-        return null;
+    public BackwardSearcher(CompiledCron compiledCron) {
+        this(compiledCron, null);
     }
 
-    private LocalDateTime backwardChainYear(LocalDateTime dateTime) {
-        LocalDateTime current = dateTime;
-        LocalDateTime result = null;
-        if (backwardCheckCurrentYear(current)) {
-            result = backwardChainMonth(current);
-        }
-        while (result == null) {
-            Integer nextValidYear = backwardNextValidYear(current);
-            if (nextValidYear == null) {
-                return null;
-            }
-            current = LocalDateTime.of(nextValidYear, MAX_MONTH, MAX_DAY_OF_MONTH, MAX_HOUR, MAX_MINUTE, MAX_SECOND);
-            result = backwardChainMonth(current);
-        }
-        return result;
+    private BackwardSearcher(CompiledCron compiledCron, String expression) {
+        this.compiledCron = compiledCron;
+        this.words = LongBuffer.wrap(compiledCron.encode());
+        this.expression = expression;
     }
 
-    private LocalDateTime backwardChainMonth(LocalDateTime dateTime) {
-        LocalDateTime current = dateTime;
-        LocalDateTime result = null;
-        if (backwardCheckCurrentMonth(current)) {
-            result = backwardChainDay(current);
-        }
-        while (result == null) {
-            Integer nextValidMonth = backwardNextValidMonth(current);
-            if (nextValidMonth == null) {
-                return null;
-            }
-            Month month = Month.of(nextValidMonth);
-            current = LocalDateTime.of(current.getYear(), month, month.length(Year.isLeap(current.getYear())), MAX_HOUR, MAX_MINUTE, MAX_SECOND);
-            result = backwardChainDay(current);
-        }
-        return result;
+    CompiledCron getCompiledCron() {
+        return compiledCron;
     }
 
-    private LocalDateTime backwardChainDay(LocalDateTime dateTime) {
-        LocalDateTime current = dateTime;
-        LocalDateTime result = null;
-        if (backwardCheckCurrentDayOfMonth(current) && backwardCheckCurrentDayOfWeek(current)) {
-            result = backwardChainHour(current);
-        }
-        while (result == null) {
-            Integer nextValidDay = backwardNextValidDay(current);
-            if (nextValidDay == null) {
-                return null;
-            }
-            current = LocalDateTime.of(current.getYear(), current.getMonthValue(), nextValidDay, MAX_HOUR, MAX_MINUTE, MAX_SECOND);
-            result = backwardChainHour(current);
-        }
-        return result;
-    }
-
-    private LocalDateTime backwardChainHour(LocalDateTime dateTime) {
-        LocalDateTime current = dateTime;
-        LocalDateTime result = null;
-        if (backwardCheckCurrentHour(current)) {
-            result = backwardChainMinute(current);
-        }
-        while (result == null) {
-            Integer nextValidHour = backwardNextValidHour(current);
-            if (nextValidHour == null) {
-                return null;
-            }
-            current = LocalDateTime.of(current.getYear(), current.getMonthValue(), current.getDayOfMonth(), nextValidHour, MAX_MINUTE, MAX_SECOND);
-            result = backwardChainMinute(current);
-        }
-        return result;
+    public static long lastFire(CompiledCron compiledCron) {
+        return backwardSearch(LongBuffer.wrap(compiledCron.encode()), 0, compiledCron, MAX_YEAR, MAX_MONTH, MAX_DAY_OF_MONTH, MAX_HOUR, MAX_MINUTE, MAX_SECOND,
+                null);
     }
 
-    private LocalDateTime backwardChainMinute(LocalDateTime dateTime) {
-        LocalDateTime current = dateTime;
-        LocalDateTime result = null;
-        if (backwardCheckCurrentMinute(current)) {
-            result = backwardChainSecond(current);
-        }
-        while (result == null) {
-            Integer nextValidMinute = backwardNextValidMinute(current);
-            if (nextValidMinute == null) {
-                return null;
-            }
-            current = LocalDateTime.of(current.getYear(), current.getMonthValue(), current.getDayOfMonth(),
-                    current.getHour(), nextValidMinute, MAX_SECOND);
-            result = backwardChainSecond(current);
+    public static long previousFire(LongBuffer words, int offset, long epochSecond) {
+        if (epochSecond < MIN_EPOCH_SECOND) {
+            return NO_FIRE;
         }
-        return result;
+        long current = Math.min(epochSecond, MAX_EPOCH_SECOND);
+        long epochDay = Math.floorDiv(current, SECONDS_PER_DAY);
+        int secondOfDay = (int) (current - epochDay * SECONDS_PER_DAY);
+        int date = toPackedDate(epochDay);
+        return backwardSearch(words, offset, null, packedYear(date), packedMonth(date), packedDay(date), secondOfDay / SECONDS_PER_HOUR,
+                secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE, secondOfDay % SECONDS_PER_MINUTE, null);
     }
 
-    private LocalDateTime backwardChainSecond(LocalDateTime dateTime) {
-        if (backwardCheckCurrentSecond(dateTime)) {
-            return dateTime;
-        }
-        Integer nextValidSecond = backwardNextValidSecond(dateTime);
-        if (nextValidSecond == null) {
-            return null;
-        } else {
-            return LocalDateTime.of(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
-                    dateTime.getHour(), dateTime.getMinute(), nextValidSecond);
+    public LocalDateTime findClosest(LocalDateTime dateTime) {
+        long result = findClosest(dateTime.toEpochSecond(ZoneOffset.UTC));
+        if (result != NO_FIRE) {
+            return LocalDateTime.ofEpochSecond(result, 0, ZoneOffset.UTC);
         }
+        return null;
     }
 
-
-    private boolean backwardCheckCurrentYear(LocalDateTime dateTime) {
-        Set<CronYears> cronYears = cronObject.getYears();
-        return cronYears.contains(CronYears.EVERY)
-                || cronYears.stream().anyMatch(cronYear -> checkCurrent(cronYear, dateTime.getYear()));
+    public ZonedDateTime findClosest(ZonedDateTime dateTime) {
+        return findClosest(dateTime, DstGapPolicy.SHIFT, DstOverlapPolicy.ONCE);
     }
 
-    private boolean backwardCheckCurrentMonth(LocalDateTime dateTime) {
-        Set<CronMonths> cronMonths = cronObject.getMonths();
-        return cronMonths.contains(CronMonths.EVERY)
-                || cronMonths.stream().anyMatch(cronMonth -> checkCurrent(cronMonth, dateTime.getMonthValue()));
+    public ZonedDateTime findClosest(ZonedDateTime dateTime, DstGapPolicy gapPolicy, DstOverlapPolicy overlapPolicy) {
+        long result = findClosest(dateTime.toEpochSecond(), dateTime.getZone(), gapPolicy, overlapPolicy);
+        if (result != NO_FIRE) {
+            return ZonedDateTime.ofInstant(Instant.ofEpochSecond(result), dateTime.getZone());
+        }
+        return null;
     }
 
-    private boolean backwardCheckCurrentDayOfMonth(LocalDateTime dateTime) {
-        Set<CronDaysOfMonth> cronDays = cronObject.getDaysOfMonth();
-        if (cronDays.contains(CronDaysOfMonth.EVERY) || cronDays.contains(CronDaysOfMonth.ANY)) {
-            return true;
+    public long findClosest(long epochSecond) {
+        if (compiledCron.getLastFire() == NO_FIRE || epochSecond < compiledCron.getFirstFire()) {
+            return NO_FIRE;
         }
-        for (CronDaysOfMonth cronDay : cronDays) {
-            if (cronDay.getStart() > 0 && !cronDay.isClosestWeekday()) {
-                if (checkCurrent(cronDay, dateTime.getDayOfMonth())) {
-                    return true;
-                }
-            } else if (getDayByIndex(dateTime, cronDay.getStart(), cronDay.isClosestWeekday()) == dateTime.getDayOfMonth()) {
-                return true;
-            }
-        }
-        return false;
+        long current = Math.min(epochSecond, compiledCron.getLastFire());
+        long epochDay = Math.floorDiv(current, SECONDS_PER_DAY);
+        int secondOfDay = (int) (current - epochDay * SECONDS_PER_DAY);
+        int date = toPackedDate(epochDay);
+        return search(packedYear(date), packedMonth(date), packedDay(date), secondOfDay / SECONDS_PER_HOUR,
+                secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE, secondOfDay % SECONDS_PER_MINUTE);
     }
 
-    private boolean backwardCheckCurrentDayOfWeek(LocalDateTime dateTime) {
-        Set<CronDaysOfWeek> cronDays = cronObject.getDaysOfWeek();
-        if (cronDays.contains(CronDaysOfWeek.EVERY) || cronDays.contains(CronDaysOfWeek.ANY)) {
-            return true;
+    public long findClosest(long epochSecond, ZoneId zone, DstGapPolicy gapPolicy, DstOverlapPolicy overlapPolicy) {
+        if (epochSecond < MIN_EPOCH_SECOND - SECONDS_PER_DAY) {
+            return NO_FIRE;
         }
-        for (CronDaysOfWeek cronDay : cronDays) {
-            if (!cronDay.hasOrdinal()) {
-                if (cronDay.matchesDayOfWeek(dateTime.getDayOfWeek())) {
-                    return true;
-                }
-            } else {
-                return cronDay.getMatchingDaysOfWeek().stream()
-                        .map(i -> nthDayOfWeek(cronDay.getOrdinal(), indexToDayOfWeek(i), dateTime.getMonth(), dateTime.getYear()))
-                        .filter(OptionalInt::isPresent).map(OptionalInt::getAsInt).anyMatch(i -> i.equals(dateTime.getDayOfMonth()));
-            }
+        long current = Math.min(epochSecond, MAX_EPOCH_SECOND + SECONDS_PER_DAY);
+        CronZone cronZone = CronZone.of(zone);
+        if (cronZone.isFixedOffset()) {
+            int offset = cronZone.offsetAt(current);
+            long result = findClosest(current + offset);
+            return result == NO_FIRE ? NO_FIRE : result - offset;
         }
-        return false;
-    }
-
-    private boolean backwardCheckCurrentHour(LocalDateTime dateTime) {
-        Set<CronHours> cronHours = cronObject.getHours();
-        return cronHours.contains(CronHours.EVERY)
-                || cronHours.stream().anyMatch(cronHour -> checkCurrent(cronHour, dateTime.getHour()));
-    }
-
-    private boolean backwardCheckCurrentMinute(LocalDateTime dateTime) {
-        Set<CronMinutes> cronMinutes = cronObject.getMinutes();
-        return cronMinutes.contains(CronMinutes.EVERY)
-                || cronMinutes.stream().anyMatch(cronMinute -> checkCurrent(cronMinute, dateTime.getMinute()));
-    }
-
-    private boolean backwardCheckCurrentSecond(LocalDateTime dateTime) {
-        Set<CronSeconds> cronSeconds = cronObject.getSeconds();
-        return cronSeconds.contains(CronSeconds.EVERY)
-                || cronSeconds.stream().anyMatch(cronSecond -> checkCurrent(cronSecond, dateTime.getSecond()));
-    }
-
-
-    private Integer backwardNextValidYear(LocalDateTime dateTime) {
-        int min = 1;
-        int current = dateTime.getYear();
-        Set<? extends CronToken> cronTokens = cronObject.getYears();
-        if (current > min) {
-            if (cronTokens.contains(CronYears.EVERY)) {
-                return current - 1;
-            }
-            OptionalInt maybeClosest = cronTokens.stream()
-                    .mapToInt(cronToken -> findPrevious(cronToken, current, min)).max();
-            int closest = maybeClosest.isPresent() ? maybeClosest.getAsInt() : Integer.MIN_VALUE;
-            return closest >= min && closest < current ? closest : null;
+        boolean twice = overlapPolicy == DstOverlapPolicy.TWICE;
+        int offset = Math.max(cronZone.offsetAt(current - CronZone.TRANSITION_WINDOW), cronZone.offsetAt(current));
+        if (twice) {
+            offset = Math.max(offset, cronZone.offsetAt(current + CronZone.TRANSITION_WINDOW));
         }
-        return null;
-    }
-
-    private Integer backwardNextValidMonth(LocalDateTime dateTime) {
-        int min = 1;
-        int current = dateTime.getMonthValue();
-        Set<? extends CronToken> cronTokens = cronObject.getMonths();
-        if (current > min) {
-            if (cronTokens.contains(CronMonths.EVERY)) {
-                return current - 1;
+        long result = NO_FIRE;
+        boolean found = false;
+        int foundOffset = 0;
+        for (long fire = findClosest(current + offset); fire != NO_FIRE; fire = findClosest(fire - 1)) {
+            if (cronZone.isGap(fire)) {
+                long shifted = cronZone.earlierInstant(fire);
+                if (gapPolicy == DstGapPolicy.SHIFT && shifted <= current) {
+                    result = Math.max(result, shifted);
+                }
+                continue;
             }
-            OptionalInt maybeClosest = cronTokens.stream()
-                    .mapToInt(cronToken -> findPrevious(cronToken, current, min)).max();
-            int closest = maybeClosest.isPresent() ? maybeClosest.getAsInt() : Integer.MIN_VALUE;
-            return closest >= min && closest < current ? closest : null;
-        }
-        return null;
-    }
-
-    private Integer backwardNextValidDay(LocalDateTime dateTime) {
-        int min = 1;
-        Set<CronDaysOfMonth> cronDaysOfMonth = cronObject.getDaysOfMonth();
-        Set<CronDaysOfWeek> cronDaysOfWeek = cronObject.getDaysOfWeek();
-        if (dateTime.getDayOfMonth() > min) {
-            if (cronDaysOfMonth.contains(CronDaysOfMonth.EVERY) || cronDaysOfWeek.contains(CronDaysOfWeek.EVERY)) {
-                return dateTime.getDayOfMonth() - 1;
+            long latest = twice ? cronZone.laterInstant(fire) : cronZone.earlierInstant(fire);
+            if (found) {
+                if (cronZone.offsetAt(latest) != foundOffset) {
+                    return result;
+                }
+                continue;
             }
-            int byDayOfMonth = cronDaysOfMonth.contains(CronDaysOfMonth.ANY) ? Integer.MIN_VALUE
-                    : getPreviousDayOfMonth(cronObject.getDaysOfMonth(), dateTime, min);
-            int byDayOfWeek = cronDaysOfWeek.contains(CronDaysOfWeek.ANY) ? Integer.MIN_VALUE
-                    : getPreviousDayOfWeek(cronObject.getDaysOfWeek(), dateTime, min);
-            int closest = Math.max(byDayOfMonth, byDayOfWeek);
-            return closest >= min && closest < dateTime.getDayOfMonth() ? closest : null;
-        }
-        return null;
-    }
-
-    private Integer backwardNextValidHour(LocalDateTime dateTime) {
-        int min = 0;
-        int current = dateTime.getHour();
-        Set<? extends CronToken> cronTokens = cronObject.getHours();
-        if (current > min) {
-            if (cronTokens.contains(CronHours.EVERY)) {
-                return current - 1;
+            if (latest <= current) {
+                result = Math.max(result, latest);
+                if (gapPolicy == DstGapPolicy.SKIP || !cronZone.isWithinGapShift(latest)) {
+                    return result;
+                }
+                found = true;
+                foundOffset = cronZone.offsetAt(latest);
+                continue;
             }
-            OptionalInt maybeClosest = cronTokens.stream()
-                    .mapToInt(cronToken -> findPrevious(cronToken, current, min)).max();
-            int closest = maybeClosest.isPresent() ? maybeClosest.getAsInt() : Integer.MIN_VALUE;
-            return closest >= min && closest < current ? closest : null;
-        }
-        return null;
-    }
-
-    private Integer backwardNextValidMinute(LocalDateTime dateTime) {
-        int min = 0;
-        int current = dateTime.getMinute();
-        Set<? extends CronToken> cronTokens = cronObject.getMinutes();
-        if (current > min) {
-            if (cronTokens.contains(CronMinutes.EVERY)) {
-                return current - 1;
+            if (twice) {
+                long earlier = cronZone.earlierInstant(fire);
+                if (earlier <= current) {
+                    result = Math.max(result, earlier);
+                }
             }
-            OptionalInt maybeClosest = cronTokens.stream()
-                    .mapToInt(cronToken -> findPrevious(cronToken, current, min)).max();
-            int closest = maybeClosest.isPresent() ? maybeClosest.getAsInt() : Integer.MIN_VALUE;
-            return closest >= min && closest < current ? closest : null;
         }
-        return null;
+        return result;
     }
 
-    private Integer backwardNextValidSecond(LocalDateTime dateTime) {
-        int min = 0;
-        int current = dateTime.getSecond();
-        Set<? extends CronToken> cronTokens = cronObject.getSeconds();
-        if (current > min) {
-            if (cronTokens.contains(CronSeconds.EVERY)) {
-                return current - 1;
-            }
-            OptionalInt maybeClosest = cronTokens.stream()
-                    .mapToInt(cronToken -> findPrevious(cronToken, current, min)).max();
-            int closest = maybeClosest.isPresent() ? maybeClosest.getAsInt() : Integer.MIN_VALUE;
-            return closest >= min && closest < current ? closest : null;
+    private long search(int year, int month, int day, int hour, int minute, int second) {
+        if (!SearchInstrumentation.isActive()) {
+            return backwardSearch(words, 0, compiledCron, year, month, day, hour, minute, second, null);
         }
-        return null;
+        CronSearchEvent event = new CronSearchEvent();
+        SearchStatistics statistics = new SearchStatistics();
+        event.begin();
+        long result = backwardSearch(words, 0, compiledCron, year, month, day, hour, minute, second, statistics);
+        SearchInstrumentation.complete(event, statistics, expression, false, toEpochSecond(year, month, day, hour, minute, second), result);
+        return result;
     }
 
-    private int getPreviousDayOfMonth(Collection<CronDaysOfMonth> cronDays, LocalDateTime dateTime, int min) {
-        int current = dateTime.getDayOfMonth();
-        if (current > min) {
-            if (cronDays.contains(CronDaysOfMonth.EVERY)) {
-                return current - 1;
+    /**
+     * Searches the schedule encoded at {@code words.get(offset)}. Day masks come from {@code compiledCron}'s precomputed table
+     * when it is given and are resolved from the words otherwise.
+     */
+    private static long backwardSearch(LongBuffer words, int offset, CompiledCron compiledCron, int year, int month, int day, int hour, int minute,
+                                       int second, SearchStatistics statistics) {
+        int validDays = 0;
+        int validDaysYear = 0;
+        int validDaysMonth = 0;
+        while (true) {
+            if (!CompiledCron.hasYear(words, offset, year)) {
+                if (statistics != null) {
+                    statistics.years++;
+                }
+                year = CompiledCron.previousYear(words, offset, year);
+                if (year < 0) {
+                    return NO_FIRE;
+                }
+                month = MAX_MONTH;
+                day = MAX_DAY_OF_MONTH;
+                hour = MAX_HOUR;
+                minute = MAX_MINUTE;
+                second = MAX_SECOND;
             }
-            int closest = Integer.MIN_VALUE;
-            for (CronDaysOfMonth cronDay : cronDays) {
-                if (cronDay.getStart() > 0 && !cronDay.isClosestWeekday()) {
-                    closest = Math.max(closest, findPrevious(cronDay, current, min));
+            int previousValidMonth = CompiledCron.previousMonth(words, offset, month);
+            if (previousValidMonth != month) {
+                if (statistics != null) {
+                    statistics.months++;
+                }
+                if (previousValidMonth < 0) {
+                    year--;
+                    month = MAX_MONTH;
                 } else {
-                    closest = Math.max(closest, findPreviousSpecialCase(cronDay, dateTime, min));
+                    month = previousValidMonth;
                 }
+                day = MAX_DAY_OF_MONTH;
+                hour = MAX_HOUR;
+                minute = MAX_MINUTE;
+                second = MAX_SECOND;
+                continue;
             }
-            return closest >= min && closest < current ? closest : Integer.MIN_VALUE;
-        }
-        return Integer.MIN_VALUE;
-    }
-
-    private int getPreviousDayOfWeek(Collection<CronDaysOfWeek> cronDays, LocalDateTime dateTime, int min) {
-        int lastDay = dateTime.getMonth().length(Year.isLeap(dateTime.getYear()));
-        int dayOfWeekOfFirst = dayOfWeekToIndex(dateTime.withDayOfMonth(1).getDayOfWeek());
-        int dayOfWeekOfLast = dayOfWeekToIndex(dateTime.withDayOfMonth(lastDay).getDayOfWeek());
-        int closest = Integer.MIN_VALUE;
-        for (var cronDay : cronDays) {
-            if (cronDay.hasOrdinal()) {
-                int temp = cronDay.getOrdinal() == 0 ? Math.max(closest, findForLastDayOfWeek(cronDay, lastDay, dayOfWeekOfLast))
-                        : Math.max(closest, findForOrdinalDayOfWeek(cronDay, lastDay, dayOfWeekOfFirst));
-                closest = temp < dateTime.getDayOfMonth() ? temp : closest;
-            } else {
-                closest = Math.max(closest, findForDayOfWeek(cronDay, dateTime.getDayOfMonth(), dateTime.getDayOfWeek()));
+            if (validDaysYear != year || validDaysMonth != month) {
+                validDays = compiledCron == null ? CompiledCron.daysOfMonth(words, offset, year, month) : compiledCron.daysOfMonth(year, month);
+                validDaysYear = year;
+                validDaysMonth = month;
             }
-        }
-        return closest >= min ? closest : Integer.MIN_VALUE;
-    }
-
-    private int findForDayOfWeek(CronDaysOfWeek cronDay, int currentDay, DayOfWeek dayOfWeek) {
-        var maybeMinDiff = cronDay.getMatchingDaysOfWeek().stream().mapToInt(d -> dayOfWeekDiff(indexToDayOfWeek(d), dayOfWeek))
-                .filter(i -> i > 0).min();
-        int minDiff = maybeMinDiff.isPresent() ? maybeMinDiff.getAsInt() : Integer.MAX_VALUE;
-        int result = currentDay - minDiff;
-        return result >= 1 && result < currentDay ? result : Integer.MIN_VALUE;
-    }
-
-    private int findForLastDayOfWeek(CronDaysOfWeek cronDay, int lastDay, int dayOfWeekOfLast) {
-        var maybeMinDiff = cronDay.getMatchingDaysOfWeek().stream().mapToInt(d -> dayOfWeekDiff(dayOfWeekOfLast, d)).min();
-        int minDiff = maybeMinDiff.isPresent() ? maybeMinDiff.getAsInt() : Integer.MAX_VALUE;
-        int result = lastDay - minDiff;
-        return result > 0 ? result : Integer.MIN_VALUE;
-    }
-
-    private int findForOrdinalDayOfWeek(CronDaysOfWeek cronDay, int lastDay, int dayOfWeekOfFirst) {
-        OptionalInt maybeMinDiff = cronDay.getMatchingDaysOfWeek().stream().mapToInt(d -> dayOfWeekDiff(dayOfWeekOfFirst, d)).min();
-        int minDiff = maybeMinDiff.isPresent() ? maybeMinDiff.getAsInt() : Integer.MIN_VALUE;
-        int result = minDiff + WEEK_LENGTH * (cronDay.getOrdinal() - 1) + 1;
-        return result <= lastDay ? result : Integer.MIN_VALUE;
-    }
-
-    private boolean checkCurrent(CronToken cronToken, int current) {
-        if (!cronToken.hasEnd() && !cronToken.hasEvery()) {
-            return cronToken.getStart() == current;
-        } else if (cronToken.getStart() <= current) {
-            if (cronToken.hasEnd()) {
-                if (cronToken.hasEvery() && cronToken.getEnd() >= current) {
-                    return (current - cronToken.getStart()) % cronToken.getEvery() == 0;
+            int previousValidDay = CompiledCron.previousDay(validDays, day);
+            if (previousValidDay != day) {
+                if (statistics != null) {
+                    statistics.days++;
                 }
-                return cronToken.getStart() <= current && current <= cronToken.getEnd();
-            } else if (cronToken.hasEvery() && !cronToken.hasEnd()) {
-                return (current - cronToken.getStart()) % cronToken.getEvery() == 0;
+                if (previousValidDay < 0) {
+                    month--;
+                    day = MAX_DAY_OF_MONTH;
+                } else {
+                    day = previousValidDay;
+                }
+                hour = MAX_HOUR;
+                minute = MAX_MINUTE;
+                second = MAX_SECOND;
+                continue;
             }
-        }
-        return false;
-    }
-
-    private int findPrevious(CronToken cronToken, int current, int min) {
-        if (current > min && cronToken.getStart() < current) {
-            if (!cronToken.hasEvery() && !cronToken.hasEnd()) {
-                return cronToken.getStart();
-            } else if (cronToken.hasEnd() && !cronToken.hasEvery()) {
-                return Math.min(current - 1, cronToken.getEnd());
-            } else if (cronToken.hasEvery() && (!cronToken.hasEnd() || cronToken.getEnd() >= current - 1)) {
-                return cronToken.getStart() + cronToken.getEvery() * ((current - 1 - cronToken.getStart()) / cronToken.getEvery());
+            int previousValidHour = CompiledCron.previousHour(words, offset, hour);
+            if (previousValidHour != hour) {
+                if (statistics != null) {
+                    statistics.hours++;
+                }
+                if (previousValidHour < 0) {
+                    day--;
+                    hour = MAX_HOUR;
+                } else {
+                    hour = previousValidHour;
+                }
+                minute = MAX_MINUTE;
+                second = MAX_SECOND;
+                continue;
             }
-        }
-        return Integer.MIN_VALUE;
-    }
-
-    private int findPreviousSpecialCase(CronDaysOfMonth cronDay, LocalDateTime current, int min) {
-        if (current.getDayOfMonth() > min) {
-            int day = cronDay.getStart();
-            if (day <= 0) {
-                day = lastDayOfMonth(current, day);
+            int previousValidMinute = CompiledCron.previousMinute(words, offset, minute);
+            if (previousValidMinute != minute) {
+                if (statistics != null) {
+                    statistics.minutes++;
+                }
+                if (previousValidMinute < 0) {
+                    hour--;
+                    minute = MAX_MINUTE;
+                } else {
+                    minute = previousValidMinute;
+                }
+                second = MAX_SECOND;
+                continue;
             }
-            if (cronDay.isClosestWeekday()) {
-                day = closestWeekDay(current.withDayOfMonth(day));
+            int previousValidSecond = CompiledCron.previousSecond(words, offset, second);
+            if (previousValidSecond < 0) {
+                if (statistics != null) {
+                    statistics.seconds++;
+                }
+                minute--;
+                second = MAX_SECOND;
+                continue;
             }
-            return day < current.getDayOfMonth() ? day : Integer.MIN_VALUE;
+            return toEpochSecond(year, month, day, hour, minute, previousValidSecond);
         }
-        return Integer.MIN_VALUE;
     }
 
 }
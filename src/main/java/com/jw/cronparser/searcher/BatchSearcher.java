@@ -0,0 +1,109 @@
+package com.jw.cronparser.searcher;
+
+import static com.jw.cronparser.CronUtils.*;
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.jw.cronparser.domain.CronObject;
+
+public final class BatchSearcher {
+
+    private static final int SPLIT_THRESHOLD = 1024;
+
+    private BatchSearcher() {
+
+    }
+
+    public static long[] nextFireEpochSeconds(CronObject[] schedules, long epochSecond) {
+        long[] result = new long[schedules.length];
+        nextFireEpochSeconds(schedules, epochSecond, result);
+        return result;
+    }
+
+    public static void nextFireEpochSeconds(CronObject[] schedules, long epochSecond, long[] result) {
+        checkLength(schedules, result);
+        if (epochSecond > MAX_EPOCH_SECOND) {
+            Arrays.fill(result, 0, schedules.length, NO_FIRE);
+            return;
+        }
+        new Batch(schedules, Math.max(epochSecond, MIN_EPOCH_SECOND), result, schedules.length, false).compute();
+    }
+
+    public static void nextFireEpochSeconds(CronObject[] schedules, long epochSecond, long[] result, ForkJoinPool pool) {
+        checkLength(schedules, result);
+        if (epochSecond > MAX_EPOCH_SECOND) {
+            Arrays.fill(result, 0, schedules.length, NO_FIRE);
+            return;
+        }
+        pool.invoke(new Batch(schedules, Math.max(epochSecond, MIN_EPOCH_SECOND), result, schedules.length, true));
+    }
+
+    private static void checkLength(CronObject[] schedules, long[] result) {
+        if (result.length < schedules.length) {
+            throw new IllegalArgumentException("Result array too short: " + result.length + " < " + schedules.length);
+        }
+    }
+
+    private static final class Batch extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final CronObject[] schedules;
+        private final long[] result;
+        private final int from;
+        private final int to;
+        private final boolean parallel;
+        private final int year;
+        private final int month;
+        private final int day;
+        private final int hour;
+        private final int minute;
+        private final int second;
+
+        private Batch(CronObject[] schedules, long epochSecond, long[] result, int length, boolean parallel) {
+            this.schedules = schedules;
+            this.result = result;
+            this.from = 0;
+            this.to = length;
+            this.parallel = parallel;
+            long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+            int secondOfDay = (int) (epochSecond - epochDay * SECONDS_PER_DAY);
+            int date = toPackedDate(epochDay);
+            this.year = packedYear(date);
+            this.month = packedMonth(date);
+            this.day = packedDay(date);
+            this.hour = secondOfDay / SECONDS_PER_HOUR;
+            this.minute = secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE;
+            this.second = secondOfDay % SECONDS_PER_MINUTE;
+        }
+
+        private Batch(Batch parent, int from, int to) {
+            this.schedules = parent.schedules;
+            this.result = parent.result;
+            this.from = from;
+            this.to = to;
+            this.parallel = true;
+            this.year = parent.year;
+            this.month = parent.month;
+            this.day = parent.day;
+            this.hour = parent.hour;
+            this.minute = parent.minute;
+            this.second = parent.second;
+        }
+
+        @Override
+        protected void compute() {
+            if (parallel && to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Batch(this, from, middle), new Batch(this, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                result[i] = schedules[i].getForwardSearcher().findClosest(year, month, day, hour, minute, second);
+            }
+        }
+    }
+}
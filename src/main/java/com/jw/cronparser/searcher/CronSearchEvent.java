@@ -0,0 +1,47 @@
+package com.jw.cronparser.searcher;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.jw.cronparser.Search")
+@Label("Cron Search")
+@Category("Cron Parser")
+@Description("Search for the closest fire time of a cron expression")
+@StackTrace(false)
+public final class CronSearchEvent extends Event {
+
+    @Label("Expression")
+    String expression;
+
+    @Label("Forward")
+    boolean forward;
+
+    @Label("Start Epoch Second")
+    long start;
+
+    @Label("Fire Epoch Second")
+    long fire;
+
+    @Label("Year Iterations")
+    long years;
+
+    @Label("Month Iterations")
+    long months;
+
+    @Label("Day Iterations")
+    long days;
+
+    @Label("Hour Iterations")
+    long hours;
+
+    @Label("Minute Iterations")
+    long minutes;
+
+    @Label("Second Iterations")
+    long seconds;
+
+}
@@ -4,6 +4,10 @@ import java.time.LocalDateTime;
 
 public interface CronSearcher {
 
+    long NO_FIRE = Long.MIN_VALUE;
+
     LocalDateTime findClosest(LocalDateTime dateTime);
 
+    long findClosest(long epochSecond);
+
 }
@@ -0,0 +1,8 @@
+package com.jw.cronparser.searcher;
+
+public enum DstGapPolicy {
+
+    SKIP,
+    SHIFT
+
+}
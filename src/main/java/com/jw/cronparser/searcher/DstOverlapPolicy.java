@@ -0,0 +1,8 @@
+package com.jw.cronparser.searcher;
+
+public enum DstOverlapPolicy {
+
+    ONCE,
+    TWICE
+
+}
@@ -0,0 +1,135 @@
+package com.jw.cronparser.searcher;
+
+import static com.jw.cronparser.CronUtils.*;
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import com.jw.cronparser.domain.CompiledCron;
+
+public class FireTimeIterator implements PrimitiveIterator.OfLong {
+
+    private final CronSearcher searcher;
+    private final CompiledCron compiledCron;
+    private final boolean forward;
+    private final long from;
+    private long next;
+    private boolean searched;
+    private boolean positioned;
+    private long dayStart;
+    private int year;
+    private int month;
+    private int day;
+    private int hour;
+    private int minute;
+    private int second;
+    private int days;
+
+    private FireTimeIterator(CronSearcher searcher, CompiledCron compiledCron, long epochSecond, boolean forward) {
+        this.searcher = searcher;
+        this.compiledCron = compiledCron;
+        this.forward = forward;
+        this.from = epochSecond;
+    }
+
+    public static FireTimeIterator forward(ForwardSearcher searcher, long epochSecond) {
+        return new FireTimeIterator(searcher, searcher.getCompiledCron(), epochSecond, true);
+    }
+
+    public static FireTimeIterator backward(BackwardSearcher searcher, long epochSecond) {
+        return new FireTimeIterator(searcher, searcher.getCompiledCron(), epochSecond, false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!searched) {
+            next = positioned ? (forward ? advance() : retreat()) : position(searcher.findClosest(from));
+            searched = true;
+        }
+        return next != NO_FIRE;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        searched = false;
+        return next;
+    }
+
+    private long advance() {
+        int s = compiledCron.nextSecond(second + 1);
+        if (s < 0) {
+            s = compiledCron.nextSecond(0);
+            int mi = compiledCron.nextMinute(minute + 1);
+            if (mi < 0) {
+                mi = compiledCron.nextMinute(0);
+                int h = compiledCron.nextHour(hour + 1);
+                if (h < 0) {
+                    h = compiledCron.nextHour(0);
+                    int d = CompiledCron.nextDay(days, day + 1);
+                    if (d < 0) {
+                        long monthEnd = month == MAX_MONTH ? toEpochDay(year + 1, 1, 1) : toEpochDay(year, month + 1, 1);
+                        return position(searcher.findClosest(monthEnd * SECONDS_PER_DAY));
+                    }
+                    dayStart += (long) (d - day) * SECONDS_PER_DAY;
+                    day = d;
+                }
+                hour = h;
+            }
+            minute = mi;
+        }
+        second = s;
+        return current();
+    }
+
+    private long retreat() {
+        int s = compiledCron.previousSecond(second - 1);
+        if (s < 0) {
+            s = compiledCron.previousSecond(MAX_SECOND);
+            int mi = compiledCron.previousMinute(minute - 1);
+            if (mi < 0) {
+                mi = compiledCron.previousMinute(MAX_MINUTE);
+                int h = compiledCron.previousHour(hour - 1);
+                if (h < 0) {
+                    h = compiledCron.previousHour(MAX_HOUR);
+                    int d = CompiledCron.previousDay(days, day - 1);
+                    if (d < 0) {
+                        return position(searcher.findClosest(toEpochDay(year, month, 1) * SECONDS_PER_DAY - 1));
+                    }
+                    dayStart -= (long) (day - d) * SECONDS_PER_DAY;
+                    day = d;
+                }
+                hour = h;
+            }
+            minute = mi;
+        }
+        second = s;
+        return current();
+    }
+
+    private long position(long epochSecond) {
+        positioned = epochSecond != NO_FIRE;
+        if (positioned) {
+            long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+            int secondOfDay = (int) (epochSecond - epochDay * SECONDS_PER_DAY);
+            int date = toPackedDate(epochDay);
+            dayStart = epochDay * SECONDS_PER_DAY;
+            year = packedYear(date);
+            month = packedMonth(date);
+            day = packedDay(date);
+            hour = secondOfDay / SECONDS_PER_HOUR;
+            minute = secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE;
+            second = secondOfDay % SECONDS_PER_MINUTE;
+            days = compiledCron.daysOfMonth(year, month);
+        }
+        return epochSecond;
+    }
+
+    private long current() {
+        return dayStart + hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE + second;
+    }
+
+}
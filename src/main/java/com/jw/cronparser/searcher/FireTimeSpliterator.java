@@ -0,0 +1,111 @@
+package com.jw.cronparser.searcher;
+
+import static com.jw.cronparser.CronUtils.*;
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+import com.jw.cronparser.domain.CronObject;
+
+public class FireTimeSpliterator implements Spliterator.OfLong {
+
+    private static final int CHARACTERISTICS = ORDERED | DISTINCT | SORTED | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+    private static final long UNKNOWN_SIZE = -1;
+
+    private final CronObject cronObject;
+    private long from;
+    private long to;
+    private long size = UNKNOWN_SIZE;
+    private FireTimeIterator iterator;
+
+    public FireTimeSpliterator(CronObject cronObject, long fromEpochSecond, long toEpochSecond) {
+        this.cronObject = cronObject;
+        this.from = Math.max(fromEpochSecond, MIN_EPOCH_SECOND);
+        this.to = Math.max(this.from, Math.min(toEpochSecond, MAX_EPOCH_SECOND + 1));
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (iterator == null) {
+            iterator = FireTimeIterator.forward(cronObject.getForwardSearcher(), from);
+        }
+        long next = from < to && iterator.hasNext() ? iterator.nextLong() : NO_FIRE;
+        if (next == NO_FIRE || next >= to) {
+            from = to;
+            size = 0;
+            return false;
+        }
+        from = next + 1;
+        if (size > 0) {
+            size--;
+        }
+        action.accept(next);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        FireTimeIterator remaining = iterator != null ? iterator : FireTimeIterator.forward(cronObject.getForwardSearcher(), from);
+        while (from < to && remaining.hasNext()) {
+            long next = remaining.nextLong();
+            if (next >= to) {
+                break;
+            }
+            from = next + 1;
+            action.accept(next);
+        }
+        from = to;
+        size = 0;
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        long split = splitPoint();
+        if (split == NO_FIRE) {
+            return null;
+        }
+        FireTimeSpliterator prefix = new FireTimeSpliterator(cronObject, from, split);
+        from = split;
+        iterator = null;
+        size = UNKNOWN_SIZE;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (size == UNKNOWN_SIZE) {
+            size = cronObject.countFires(from, to);
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+        return null;
+    }
+
+    private long splitPoint() {
+        if (to - from < 2 * SECONDS_PER_DAY) {
+            return NO_FIRE;
+        }
+        long middle = from + (to - from) / 2;
+        int date = toPackedDate(Math.floorDiv(middle, SECONDS_PER_DAY));
+        long yearStart = toEpochDay(packedYear(date), 1, 1) * SECONDS_PER_DAY;
+        if (yearStart > from && to - from > 2L * MAX_MONTH * MAX_DAY_OF_MONTH * SECONDS_PER_DAY) {
+            return yearStart;
+        }
+        long monthStart = toEpochDay(packedYear(date), packedMonth(date), 1) * SECONDS_PER_DAY;
+        if (monthStart > from) {
+            return monthStart;
+        }
+        return Math.floorDiv(middle, SECONDS_PER_DAY) * SECONDS_PER_DAY;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.jw.cronparser.searcher;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class SearchInstrumentation {
+
+    private static final LongAdder SEARCHES = new LongAdder();
+    private static final LongAdder YEARS = new LongAdder();
+    private static final LongAdder MONTHS = new LongAdder();
+    private static final LongAdder DAYS = new LongAdder();
+    private static final LongAdder HOURS = new LongAdder();
+    private static final LongAdder MINUTES = new LongAdder();
+    private static final LongAdder SECONDS = new LongAdder();
+
+    private static final CronSearchEvent PROBE = new CronSearchEvent();
+
+    private static volatile boolean counting;
+
+    private SearchInstrumentation() {
+
+    }
+
+    public static boolean isCounting() {
+        return counting;
+    }
+
+    public static void setCounting(boolean enabled) {
+        counting = enabled;
+    }
+
+    public static SearchStatistics snapshot() {
+        return new SearchStatistics(SEARCHES.sum(), YEARS.sum(), MONTHS.sum(), DAYS.sum(), HOURS.sum(), MINUTES.sum(), SECONDS.sum());
+    }
+
+    public static void reset() {
+        SEARCHES.reset();
+        YEARS.reset();
+        MONTHS.reset();
+        DAYS.reset();
+        HOURS.reset();
+        MINUTES.reset();
+        SECONDS.reset();
+    }
+
+    static boolean isActive() {
+        return counting || PROBE.isEnabled();
+    }
+
+    static void complete(CronSearchEvent event, SearchStatistics statistics, String expression, boolean forward, long start, long fire) {
+        event.end();
+        if (counting) {
+            SEARCHES.increment();
+            YEARS.add(statistics.years);
+            MONTHS.add(statistics.months);
+            DAYS.add(statistics.days);
+            HOURS.add(statistics.hours);
+            MINUTES.add(statistics.minutes);
+            SECONDS.add(statistics.seconds);
+        }
+        if (event.shouldCommit()) {
+            event.expression = expression;
+            event.forward = forward;
+            event.start = start;
+            event.fire = fire;
+            event.years = statistics.years;
+            event.months = statistics.months;
+            event.days = statistics.days;
+            event.hours = statistics.hours;
+            event.minutes = statistics.minutes;
+            event.seconds = statistics.seconds;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.jw.cronparser.searcher;
+
+public final class SearchStatistics {
+
+    long searches;
+    long years;
+    long months;
+    long days;
+    long hours;
+    long minutes;
+    long seconds;
+
+    SearchStatistics() {
+
+    }
+
+    SearchStatistics(long searches, long years, long months, long days, long hours, long minutes, long seconds) {
+        this.searches = searches;
+        this.years = years;
+        this.months = months;
+        this.days = days;
+        this.hours = hours;
+        this.minutes = minutes;
+        this.seconds = seconds;
+    }
+
+    public long getSearches() {
+        return searches;
+    }
+
+    public long getYears() {
+        return years;
+    }
+
+    public long getMonths() {
+        return months;
+    }
+
+    public long getDays() {
+        return days;
+    }
+
+    public long getHours() {
+        return hours;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public long getSeconds() {
+        return seconds;
+    }
+
+    public long getIterations() {
+        return years + months + days + hours + minutes + seconds;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchStatistics{searches=" + searches + ", years=" + years + ", months=" + months + ", days=" + days
+                + ", hours=" + hours + ", minutes=" + minutes + ", seconds=" + seconds + "}";
+    }
+}
@@ -0,0 +1,272 @@
+package com.jw.cronparser.store;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronEncoding;
+import com.jw.cronparser.domain.CronObject;
+
+/**
+ * Memory-mapped file of next fire times keyed by schedule id. Opening reads only the header; each entry is checked
+ * against its expression on first access, re-encoded if the expression changed or the entry is corrupt, and has a next
+ * fire before the open instant moved forward. Entries whose expression does not parse read as {@code NO_FIRE} and are
+ * reported by {@link #validateAll()} and {@link #invalidEntries()}.
+ */
+public final class CronScheduleFile implements Closeable {
+
+    public static final int VERSION = 1;
+
+    private static final long MAGIC = 0x43524F4E49445831L;
+    private static final int HEADER_BYTES = 64;
+    private static final int MAGIC_POSITION = 0;
+    private static final int VERSION_POSITION = 8;
+    private static final int ENCODED_LENGTH_POSITION = 12;
+    private static final int ENTRY_BYTES_POSITION = 16;
+    private static final int COUNT_POSITION = 20;
+    private static final int SOURCE_HASH = 0;
+    private static final int NEXT_FIRE = 1;
+    private static final int ENCODED = 2;
+    private static final int CHECKSUM = ENCODED + CronEncoding.LENGTH;
+    private static final int ENTRY_LONGS = CHECKSUM + 1;
+    private static final int ENTRY_BYTES = ENTRY_LONGS * Long.BYTES;
+    private static final int SEGMENT_ENTRIES = (1 << 30) / ENTRY_BYTES;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final long CHECKSUM_SEED = 0x5DEECE66DL;
+    private static final long CHECKSUM_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] segments;
+    private final List<String> expressions;
+    private final CronParser parser;
+    private final long epochSecond;
+    private final long[] scratch = new long[CronEncoding.LENGTH];
+    private final BitSet validated = new BitSet();
+    private final SortedMap<Integer, IllegalArgumentException> invalid = new TreeMap<>();
+    private int recomputeCount;
+
+    private CronScheduleFile(FileChannel channel, List<String> expressions, CronParser parser, long epochSecond) throws IOException {
+        this.channel = channel;
+        this.expressions = List.copyOf(expressions);
+        this.parser = parser;
+        this.epochSecond = epochSecond;
+        int count = this.expressions.size();
+        boolean compatible = isCompatible(channel);
+        long fileSize = HEADER_BYTES + (long) count * ENTRY_BYTES;
+        if (!compatible) {
+            channel.truncate(0);
+        } else if (channel.size() > fileSize) {
+            channel.truncate(fileSize);
+        }
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        this.header.order(ByteOrder.LITTLE_ENDIAN);
+        this.segments = new MappedByteBuffer[(count + SEGMENT_ENTRIES - 1) / SEGMENT_ENTRIES];
+        for (int i = 0; i < segments.length; i++) {
+            int entries = Math.min(SEGMENT_ENTRIES, count - i * SEGMENT_ENTRIES);
+            segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + (long) i * SEGMENT_ENTRIES * ENTRY_BYTES,
+                    (long) entries * ENTRY_BYTES);
+            segments[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if (!compatible) {
+            header.putLong(MAGIC_POSITION, MAGIC);
+            header.putInt(VERSION_POSITION, VERSION);
+            header.putInt(ENCODED_LENGTH_POSITION, CronEncoding.LENGTH);
+            header.putInt(ENTRY_BYTES_POSITION, ENTRY_BYTES);
+        }
+        header.putInt(COUNT_POSITION, count);
+    }
+
+    public static CronScheduleFile open(Path path, List<String> expressions, CronParser parser, long epochSecond) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        try {
+            return new CronScheduleFile(channel, expressions, parser, epochSecond);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return expressions.size();
+    }
+
+    public synchronized int getRecomputeCount() {
+        return recomputeCount;
+    }
+
+    public synchronized long getNextFireEpochSecond(int id) {
+        MappedByteBuffer segment = entry(id);
+        return invalid.containsKey(id) ? NO_FIRE : segment.getLong(position(id, NEXT_FIRE));
+    }
+
+    public synchronized void setNextFireEpochSecond(int id, long nextFireEpochSecond) {
+        MappedByteBuffer segment = validEntry(id);
+        if (nextFireEpochSecond != NO_FIRE && !CronEncoding.matches(load(segment, id), 0, nextFireEpochSecond)) {
+            throw new IllegalArgumentException("Wrong next fire for schedule " + id + ": " + nextFireEpochSecond);
+        }
+        writeNextFire(segment, id, nextFireEpochSecond);
+    }
+
+    public synchronized long advance(int id) {
+        MappedByteBuffer segment = entry(id);
+        if (invalid.containsKey(id)) {
+            return NO_FIRE;
+        }
+        long current = segment.getLong(position(id, NEXT_FIRE));
+        long next = current == NO_FIRE ? NO_FIRE : CronEncoding.nextFireEpochSecond(load(segment, id), 0, current + 1);
+        writeNextFire(segment, id, next);
+        return next;
+    }
+
+    public synchronized long[] getEncoded(int id) {
+        return load(validEntry(id), id).clone();
+    }
+
+    public synchronized int validateAll() {
+        int before = recomputeCount;
+        for (int id = 0; id < expressions.size(); id++) {
+            entry(id);
+        }
+        if (!invalid.isEmpty()) {
+            IllegalArgumentException e = invalid.get(invalid.firstKey());
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        return recomputeCount - before;
+    }
+
+    public synchronized int[] invalidEntries() {
+        for (int id = 0; id < expressions.size(); id++) {
+            entry(id);
+        }
+        return invalid.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public synchronized void force() {
+        header.force();
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private MappedByteBuffer segment(int id) {
+        Objects.checkIndex(id, expressions.size());
+        return segments[id / SEGMENT_ENTRIES];
+    }
+
+    private MappedByteBuffer entry(int id) {
+        MappedByteBuffer segment = segment(id);
+        if (!validated.get(id)) {
+            validate(segment, id);
+            validated.set(id);
+        }
+        return segment;
+    }
+
+    private MappedByteBuffer validEntry(int id) {
+        MappedByteBuffer segment = entry(id);
+        IllegalArgumentException e = invalid.get(id);
+        if (e != null) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        return segment;
+    }
+
+    private void validate(MappedByteBuffer segment, int id) {
+        String expression = expressions.get(id);
+        long sourceHash = sourceHash(expression);
+        if (segment.getLong(position(id, SOURCE_HASH)) != sourceHash
+                || segment.getLong(position(id, CHECKSUM)) != checksum(segment, id)) {
+            recompute(segment, id, expression, sourceHash);
+        } else if (isStale(segment.getLong(position(id, NEXT_FIRE)))) {
+            writeNextFire(segment, id, CronEncoding.nextFireEpochSecond(load(segment, id), 0, epochSecond));
+            recomputeCount++;
+        }
+    }
+
+    private boolean isStale(long nextFireEpochSecond) {
+        return nextFireEpochSecond != NO_FIRE && nextFireEpochSecond < epochSecond;
+    }
+
+    private void recompute(MappedByteBuffer segment, int id, String expression, long sourceHash) {
+        CronObject cronObject;
+        try {
+            cronObject = parser.parse(expression);
+        } catch (IllegalArgumentException e) {
+            invalid.put(id, new IllegalArgumentException("Wrong Cron format for schedule " + id + ": " + expression, e));
+            return;
+        }
+        CronEncoding.encode(cronObject, scratch, 0);
+        segment.putLong(position(id, SOURCE_HASH), sourceHash);
+        for (int i = 0; i < scratch.length; i++) {
+            segment.putLong(position(id, ENCODED + i), scratch[i]);
+        }
+        writeNextFire(segment, id, cronObject.nextFireEpochSecond(epochSecond));
+        recomputeCount++;
+    }
+
+    private void writeNextFire(MappedByteBuffer segment, int id, long nextFireEpochSecond) {
+        segment.putLong(position(id, NEXT_FIRE), nextFireEpochSecond);
+        segment.putLong(position(id, CHECKSUM), checksum(segment, id));
+    }
+
+    private long[] load(MappedByteBuffer segment, int id) {
+        for (int i = 0; i < scratch.length; i++) {
+            scratch[i] = segment.getLong(position(id, ENCODED + i));
+        }
+        return scratch;
+    }
+
+    private static boolean isCompatible(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_BYTES) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(buffer, 0);
+        return buffer.getLong(MAGIC_POSITION) == MAGIC
+                && buffer.getInt(VERSION_POSITION) == VERSION
+                && buffer.getInt(ENCODED_LENGTH_POSITION) == CronEncoding.LENGTH
+                && buffer.getInt(ENTRY_BYTES_POSITION) == ENTRY_BYTES;
+    }
+
+    private static int position(int id, int field) {
+        return (id % SEGMENT_ENTRIES) * ENTRY_BYTES + field * Long.BYTES;
+    }
+
+    private static long checksum(MappedByteBuffer segment, int id) {
+        long result = CHECKSUM_SEED;
+        for (int field = 0; field < CHECKSUM; field++) {
+            result = (result ^ segment.getLong(position(id, field))) * CHECKSUM_MULTIPLIER;
+            result ^= result >>> Integer.SIZE;
+        }
+        return result;
+    }
+
+    private static long sourceHash(String expression) {
+        long result = FNV_OFFSET_BASIS;
+        for (int i = 0; i < expression.length(); i++) {
+            result = (result ^ expression.charAt(i)) * FNV_PRIME;
+        }
+        return result;
+    }
+}
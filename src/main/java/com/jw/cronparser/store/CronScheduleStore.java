@@ -0,0 +1,237 @@
+package com.jw.cronparser.store;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import com.jw.cronparser.domain.CronEncoding;
+import com.jw.cronparser.domain.CronObject;
+
+/**
+ * Off-heap store of encoded schedules. Queries search the encoded words in place in the direct buffers, so concurrent
+ * lookups are safe; {@link #add} and {@link #remove} must not run concurrently with any other call. {@link #matching(long)}
+ * scans all slots; use {@code CronIndex} for repeated matching.
+ */
+public final class CronScheduleStore {
+
+    private static final int DEFAULT_CHUNK_SHIFT = 14;
+    private static final int MAX_CHUNK_SHIFT = 24;
+    private static final int FIRST_FIRE = 1;
+    private static final int LAST_FIRE = 2;
+    private static final int HEADER_LENGTH = 3;
+    private static final int SLOT_LENGTH = HEADER_LENGTH + CronEncoding.LENGTH;
+    private static final long LIVE = 1L << Integer.SIZE;
+    private static final int NO_SLOT = -1;
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private LongBuffer[] chunks = new LongBuffer[0];
+    private int highWater;
+    private int freeHead = NO_SLOT;
+    private int size;
+
+    public CronScheduleStore() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    public CronScheduleStore(int chunkShift) {
+        if (chunkShift < 0 || chunkShift > MAX_CHUNK_SHIFT) {
+            throw new IllegalArgumentException("Wrong chunk shift: " + chunkShift);
+        }
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+    }
+
+    public int add(CronObject cronObject) {
+        return add(CronEncoding.encode(cronObject), 0, cronObject.getFirstFireEpochSecond(), cronObject.getLastFireEpochSecond());
+    }
+
+    public int add(long[] words, int offset) {
+        long firstFire = CronEncoding.nextFireEpochSecond(words, offset, Long.MIN_VALUE);
+        long lastFire = firstFire == NO_FIRE ? NO_FIRE : CronEncoding.previousFireEpochSecond(words, offset, Long.MAX_VALUE);
+        return add(words, offset, firstFire, lastFire);
+    }
+
+    public int[] addAll(Collection<CronObject> cronObjects) {
+        int[] ids = new int[cronObjects.size()];
+        int position = 0;
+        for (CronObject cronObject : cronObjects) {
+            ids[position++] = add(cronObject);
+        }
+        return ids;
+    }
+
+    public boolean remove(int id) {
+        if (!contains(id)) {
+            return false;
+        }
+        chunks[id >>> chunkShift].put((id & chunkMask) * SLOT_LENGTH, freeHead & 0xFFFFFFFFL);
+        freeHead = id;
+        size--;
+        return true;
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < highWater && (chunks[id >>> chunkShift].get((id & chunkMask) * SLOT_LENGTH) & LIVE) != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long[] getEncoded(int id) {
+        long[] words = new long[CronEncoding.LENGTH];
+        read(id, words);
+        return words;
+    }
+
+    public CronObject get(int id) {
+        return CronEncoding.decode(getEncoded(id));
+    }
+
+    public long nextFireEpochSecond(int id, long epochSecond) {
+        int base = slot(id);
+        LongBuffer chunk = chunks[id >>> chunkShift];
+        long lastFire = chunk.get(base + LAST_FIRE);
+        if (lastFire == NO_FIRE || epochSecond > lastFire) {
+            return NO_FIRE;
+        }
+        return CronEncoding.nextFireEpochSecond(chunk, base + HEADER_LENGTH, Math.max(epochSecond, chunk.get(base + FIRST_FIRE)));
+    }
+
+    public long previousFireEpochSecond(int id, long epochSecond) {
+        int base = slot(id);
+        LongBuffer chunk = chunks[id >>> chunkShift];
+        long firstFire = chunk.get(base + FIRST_FIRE);
+        if (firstFire == NO_FIRE || epochSecond < firstFire) {
+            return NO_FIRE;
+        }
+        return CronEncoding.previousFireEpochSecond(chunk, base + HEADER_LENGTH, Math.min(epochSecond, chunk.get(base + LAST_FIRE)));
+    }
+
+    public boolean matches(int id, long epochSecond) {
+        return matches(chunks[id >>> chunkShift], slot(id), epochSecond);
+    }
+
+    public int[] matching(long epochSecond) {
+        int[] result = new int[Math.min(size, Long.SIZE)];
+        int count = 0;
+        for (int id = 0; id < highWater; id++) {
+            if (contains(id) && matches(chunks[id >>> chunkShift], (id & chunkMask) * SLOT_LENGTH, epochSecond)) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, count * 2);
+                }
+                result[count++] = id;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int id = 0; id < highWater; id++) {
+            if (contains(id)) {
+                action.accept(id);
+            }
+        }
+    }
+
+    public IntStream ids() {
+        return StreamSupport.intStream(Spliterators.spliterator(new IdIterator(), size,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL), false);
+    }
+
+    private int add(long[] words, int offset, long firstFire, long lastFire) {
+        int id = allocate();
+        LongBuffer chunk = chunks[id >>> chunkShift];
+        int base = (id & chunkMask) * SLOT_LENGTH;
+        chunk.put(base, LIVE);
+        chunk.put(base + FIRST_FIRE, firstFire);
+        chunk.put(base + LAST_FIRE, lastFire);
+        for (int i = 0; i < CronEncoding.LENGTH; i++) {
+            chunk.put(base + HEADER_LENGTH + i, words[offset + i]);
+        }
+        size++;
+        return id;
+    }
+
+    private boolean matches(LongBuffer chunk, int base, long epochSecond) {
+        long firstFire = chunk.get(base + FIRST_FIRE);
+        if (firstFire == NO_FIRE || epochSecond < firstFire || epochSecond > chunk.get(base + LAST_FIRE)) {
+            return false;
+        }
+        return CronEncoding.matches(chunk, base + HEADER_LENGTH, epochSecond);
+    }
+
+    private void read(int id, long[] words) {
+        LongBuffer chunk = chunks[id >>> chunkShift];
+        int base = slot(id) + HEADER_LENGTH;
+        for (int i = 0; i < CronEncoding.LENGTH; i++) {
+            words[i] = chunk.get(base + i);
+        }
+    }
+
+    private int slot(int id) {
+        if (!contains(id)) {
+            throw new NoSuchElementException("No schedule with id " + id);
+        }
+        return (id & chunkMask) * SLOT_LENGTH;
+    }
+
+    private int allocate() {
+        if (freeHead != NO_SLOT) {
+            int id = freeHead;
+            freeHead = (int) chunks[id >>> chunkShift].get((id & chunkMask) * SLOT_LENGTH);
+            return id;
+        }
+        if (highWater == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Schedule store is full");
+        }
+        int chunk = highWater >>> chunkShift;
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunk + 1);
+            chunks[chunk] = ByteBuffer.allocateDirect((chunkMask + 1) * SLOT_LENGTH * Long.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer();
+        }
+        return highWater++;
+    }
+
+    private final class IdIterator implements PrimitiveIterator.OfInt {
+
+        private int next = advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return next < highWater;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int result = next;
+            next = advance(next + 1);
+            return result;
+        }
+
+        private int advance(int from) {
+            int id = from;
+            while (id < highWater && !contains(id)) {
+                id++;
+            }
+            return id;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.jw.cronparser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.jw.cronparser.domain.CronExpressionParser;
+import com.jw.cronparser.domain.CronObject;
+
+class CronInternPoolTest {
+
+    @Test
+    void sharesCompiledCronAndKeepsExpression() {
+        CronInternPool pool = new CronInternPool();
+        CronObject first = pool.parse("0 0 12 ? * MON-FRI *");
+        CronObject second = pool.parse("0 0 12 ? * 2-6 *");
+        CronObject other = pool.parse("0 0 13 ? * MON-FRI *");
+
+        assertSame(first.getCompiledCron(), second.getCompiledCron());
+        assertNotSame(first.getCompiledCron(), other.getCompiledCron());
+        assertEquals("0 0 12 ? * MON-FRI *", first.getExpression());
+        assertEquals("0 0 12 ? * 2-6 *", second.getExpression());
+        assertEquals(first.nextFireEpochSecond(0), second.nextFireEpochSecond(0));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void internsAlreadySharedObjectAsItself() {
+        CronInternPool pool = new CronInternPool();
+        CronObject first = pool.parse("0 0 0 1 * ? *");
+        assertSame(first, pool.intern(first));
+    }
+
+    @Test
+    void rejectsMismatchedCompiledCron() {
+        CronObject cronObject = CronExpressionParser.parse("0 0 0 1 * ? *");
+        CronObject other = CronExpressionParser.parse("0 0 0 2 * ? *");
+        assertThrows(IllegalArgumentException.class, () -> cronObject.withCompiledCron(other.getCompiledCron()));
+    }
+
+    @Test
+    void dropsUnreachableEntries() throws InterruptedException {
+        CronInternPool pool = new CronInternPool();
+        for (int i = 0; i < 1000; i++) {
+            pool.parse("0 0 0 1 1 ? " + (2000 + i % 100));
+        }
+        for (int attempt = 0; attempt < 100 && pool.size() > 0; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, pool.size());
+    }
+}
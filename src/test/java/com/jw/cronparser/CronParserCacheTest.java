@@ -0,0 +1,38 @@
+package com.jw.cronparser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.jw.cronparser.domain.CronExpressionParser;
+import com.jw.cronparser.domain.CronObject;
+
+class CronParserCacheTest {
+
+    private static final CronObject CRON_OBJECT = CronExpressionParser.parse("0 0 0 * * ? *");
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 17, 31, 100, 1000, 1025 })
+    void retainsExactlyMaximumSize(int maximumSize) {
+        CronParserCache cache = new CronParserCache(maximumSize);
+        int inserted = maximumSize * 200;
+        for (int i = 0; i < inserted; i++) {
+            cache.get("expression-" + i, expression -> CRON_OBJECT);
+        }
+        assertEquals(inserted, cache.getMissCount());
+        assertEquals(maximumSize, inserted - cache.getEvictionCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 32, 100, 1000 })
+    void keepsRecentlyUsedEntries(int maximumSize) {
+        CronParserCache cache = new CronParserCache(maximumSize);
+        cache.get("first", expression -> CRON_OBJECT);
+        for (int i = 0; i < maximumSize * 200; i++) {
+            assertSame(CRON_OBJECT, cache.get("first", expression -> fail("evicted after " + cache.getMissCount() + " misses")));
+            cache.get("expression-" + i, expression -> CRON_OBJECT);
+        }
+        assertEquals(maximumSize * 200, cache.getHitCount());
+    }
+}
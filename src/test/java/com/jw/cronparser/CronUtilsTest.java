@@ -0,0 +1,49 @@
+package com.jw.cronparser;
+
+import static com.jw.cronparser.CronUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+class CronUtilsTest {
+
+    private static final int FROM_YEAR = MIN_YEAR - 100;
+    private static final int TO_YEAR = MAX_YEAR + 100;
+
+    @Test
+    void calendarsMatchJavaTime() {
+        for (int year = FROM_YEAR; year <= TO_YEAR; year++) {
+            for (int month = 1; month <= MAX_MONTH; month++) {
+                LocalDate first = LocalDate.of(year, month, 1);
+                String message = year + "-" + month;
+                assertEquals(first.lengthOfMonth(), lengthOfMonth(year, month), message);
+                assertEquals(first.getDayOfWeek().getValue() % WEEK_LENGTH + 1, firstDayOfWeekOfMonth(year, month), message);
+                assertEquals(first.toEpochDay(), toEpochDay(year, month, 1), message);
+            }
+        }
+    }
+
+    @Test
+    void packedDatesMatchJavaTime() {
+        for (long epochDay = LocalDate.of(FROM_YEAR, 1, 1).toEpochDay(); epochDay <= LocalDate.of(TO_YEAR, 12, 31).toEpochDay(); epochDay++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            int packed = toPackedDate(epochDay);
+            assertEquals(date.getYear(), packedYear(packed));
+            assertEquals(date.getMonthValue(), packedMonth(packed));
+            assertEquals(date.getDayOfMonth(), packedDay(packed));
+            assertEquals(date.getDayOfWeek().getValue() % WEEK_LENGTH + 1, dayOfWeekOfEpochDay(epochDay));
+        }
+    }
+
+    @Test
+    void epochSecondsMatchJavaTime() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 2, 29, 23, 59, 58);
+        assertEquals(dateTime.toEpochSecond(ZoneOffset.UTC), toEpochSecond(2024, 2, 29, 23, 59, 58));
+        assertEquals(LocalDateTime.of(MIN_YEAR, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC), MIN_EPOCH_SECOND);
+        assertEquals(LocalDateTime.of(MAX_YEAR, 12, 31, 23, 59, 59).toEpochSecond(ZoneOffset.UTC), MAX_EPOCH_SECOND);
+    }
+}
@@ -0,0 +1,75 @@
+package com.jw.cronparser.domain;
+
+import static com.jw.cronparser.CronUtils.*;
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.jw.cronparser.searcher.SearchInstrumentation;
+
+class CompiledCronTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0 0 0 12,13,16 * ? *", "0 0 0 29 2 ? *", "30 10 8 L * ? *", "0 0 12 LW * ? *", "0 0 12 15W * ? *",
+            "0 0 12 1W * ? *", "0 0 12 31W * ? *", "0 0 12 L-3 * ? *", "0 0 12 ? * 6L *", "0 0 12 ? * 2#3 *",
+            "0 0 12 ? * MON-FRI *", "0 0 12 ? * 5#5 *", "0 0 0 13 * 6 *", "0 0 12 ? * 2#1,4L,SAT *"
+    })
+    void resolvesDaysOfMonthForEveryMonth(String expression) {
+        CompiledCron compiledCron = CronExpressionParser.parse(expression).getCompiledCron();
+        CompiledCron decoded = CompiledCron.decode(compiledCron.encode());
+        for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+            for (int month = 1; month <= MAX_MONTH; month++) {
+                assertEquals(compiledCron.resolveDaysOfMonth(year, month), compiledCron.daysOfMonth(year, month), year + "-" + month);
+                assertEquals(compiledCron.daysOfMonth(year, month), decoded.daysOfMonth(year, month), year + "-" + month);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0 0 0 12,13,16 * ? *", "0 0 0 1 1 ? 2050", "59 59 23 31 12 ? 2099/1", "0 0 0 30 2 ? *", "0 0 12 ? * 5#5 2021"})
+    void decodeRestoresBounds(String expression) {
+        CompiledCron compiledCron = CronExpressionParser.parse(expression).getCompiledCron();
+        CompiledCron decoded = CompiledCron.decode(compiledCron.encode());
+        assertEquals(compiledCron.isSatisfiable(), decoded.isSatisfiable());
+        assertEquals(compiledCron.getFirstFire(), decoded.getFirstFire());
+        assertEquals(compiledCron.getLastFire(), decoded.getLastFire());
+    }
+
+    @Test
+    void computesBoundsOutsideInstrumentation() {
+        SearchInstrumentation.reset();
+        SearchInstrumentation.setCounting(true);
+        try {
+            CompiledCron compiledCron = CronExpressionParser.parse("0 0 12 ? * 2#3 *").getCompiledCron();
+            CompiledCron.decode(compiledCron.encode());
+        } finally {
+            SearchInstrumentation.setCounting(false);
+        }
+        assertEquals(0, SearchInstrumentation.snapshot().getSearches());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "* * * * * ? *", "0 0 0 29 2 ? *", "0 0 12 LW * ? *", "0 0 12 ? * 6L *", "0 0 12 ? * 2#3 *", "0 0 0 30 2 ? *",
+            "15,45 5-10/2 1-3 1-10 JAN-MAR,SEP ? 2020-2030", "59 59 23 31 12 ? 2099/1", "10-20/5 * 4 8-12 * ? 1999,2003,2077"
+    })
+    void searchesEncodedWordsLikeCompiledCron(String expression) {
+        CronObject cronObject = CronExpressionParser.parse(expression);
+        long[] words = cronObject.getCompiledCron().encode();
+        Random random = new Random(expression.hashCode());
+        for (int i = 0; i < 5_000; i++) {
+            long epochSecond = MIN_EPOCH_SECOND - SECONDS_PER_DAY + (long) (random.nextDouble() * (MAX_EPOCH_SECOND - MIN_EPOCH_SECOND));
+            long next = cronObject.nextFireEpochSecond(epochSecond);
+            assertEquals(next, CronEncoding.nextFireEpochSecond(words, 0, epochSecond));
+            assertEquals(cronObject.previousFireEpochSecond(epochSecond), CronEncoding.previousFireEpochSecond(words, 0, epochSecond));
+            assertEquals(cronObject.previousFireEpochSecond(epochSecond) == epochSecond, CronEncoding.matches(words, 0, epochSecond));
+            assertTrue(next == NO_FIRE || CronEncoding.matches(words, 0, next));
+        }
+    }
+}
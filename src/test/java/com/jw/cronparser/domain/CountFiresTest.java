@@ -0,0 +1,71 @@
+package com.jw.cronparser.domain;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CountFiresTest {
+
+    private static final long ORIGIN = 1_704_067_200L;
+    private static final int RANGES = 100;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "* * * ? * * *", "0 0 12 ? * * *", "0 */15 * ? * MON-FRI *", "30 0 0 L * ? *", "0 0 9 LW * ? *", "0 0 9 15W * ? *",
+            "0 0 10 ? * 6L *", "0 0 10 ? * 2#3 *", "0 5 * L-3 * ? *", "*/7 */3 1-5 1,15 JAN,JUN ? 2024-2026", "0 0 0 29 2 ? *",
+            "0 30 * ? * 1,7 *", "0 0 0 1 1 ? 1900,2099"
+    })
+    void countsLikeIteratedSearches(String expression) {
+        CronObject cronObject = CronExpressionParser.parse(expression);
+        Random random = new Random(expression.hashCode());
+        for (int i = 0; i < RANGES; i++) {
+            long from = ORIGIN + (long) (random.nextGaussian() * 3e7);
+            long to = from + random.nextInt(i % 3 == 0 ? 3_000_000 : 50_000);
+            assertEquals(iterate(cronObject, from, to), cronObject.countFires(from, to), expression + " in [" + from + ", " + to + ")");
+        }
+    }
+
+    @Test
+    void countsWholeRange() {
+        assertEquals(2, CronExpressionParser.parse("0 0 0 1 1 ? 1900,2099").countFires(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(49, CronExpressionParser.parse("0 0 0 29 2 ? *").countFires(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(0, CronExpressionParser.parse("0 0 0 30 2 ? *").countFires(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0 0 12 ? * * *", "0 0 9 LW * ? *", "0 0 10 ? * 2#3 *", "*/7 */3 1-5 1,15 JAN,JUN ? 2024-2026", "0 0 0 29 2 ? *"})
+    void countsAdditivelyAcrossYears(String expression) {
+        CronObject cronObject = CronExpressionParser.parse(expression);
+        Random random = new Random(expression.hashCode());
+        for (int i = 0; i < RANGES; i++) {
+            long from = ORIGIN + (long) (random.nextGaussian() * 1e9);
+            long middle = from + (long) (random.nextDouble() * 1e9);
+            long to = middle + (long) (random.nextDouble() * 1e9);
+            assertEquals(cronObject.countFires(from, middle) + cronObject.countFires(middle, to), cronObject.countFires(from, to), expression);
+        }
+    }
+
+    @Test
+    void countsHalfOpenRange() {
+        CronObject cronObject = CronExpressionParser.parse("0 0 * * * ? *");
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        assertEquals(24, cronObject.countFires(from, from.plusDays(1)));
+        assertEquals(1, cronObject.countFires(from, from.plusSeconds(1)));
+        assertEquals(0, cronObject.countFires(from.plusSeconds(1), from.plusHours(1)));
+        assertEquals(0, cronObject.countFires(from.plusDays(1), from));
+    }
+
+    private static long iterate(CronObject cronObject, long from, long to) {
+        long count = 0;
+        for (long fire = cronObject.nextFireEpochSecond(from); fire != NO_FIRE && fire < to; fire = cronObject.nextFireEpochSecond(fire + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
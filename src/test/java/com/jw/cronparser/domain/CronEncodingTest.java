@@ -0,0 +1,60 @@
+package com.jw.cronparser.domain;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CronEncodingTest {
+
+    private static final int OFFSET = 3;
+    private static final int PROBES = 300;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "* * * * * ? *", "0 0/15 * * * ? *", "15,45 5-10/2 1-3 1-10 JAN-MAR,SEP ? 2020-2030", "30 10 8 L * ? *", "0 0 12 L-3 * ? *",
+            "0 0 12 LW * ? *", "0 0 12 15W * ? *", "0 0 12 ? * 6L *", "0 0 12 ? * 2#3,6#5 *", "0 0 12 ? * MON-FRI *",
+            "0 0 0 29 2 ? *", "59 59 23 31 12 ? 1900,2099", "0 0 0 30 2 ? *"
+    })
+    void roundTripsThroughWords(String expression) {
+        CronObject cronObject = CronExpressionParser.parse(expression);
+        long[] words = new long[OFFSET + CronEncoding.LENGTH + 1];
+        CronEncoding.encode(cronObject, words, OFFSET);
+        assertEquals(0, words[0]);
+        assertEquals(0, words[words.length - 1]);
+
+        CronObject decoded = CronEncoding.decode(words, OFFSET);
+        assertArrayEquals(CronEncoding.encode(cronObject), CronEncoding.encode(decoded));
+        assertEquals(CronFingerprint.of(cronObject), CronFingerprint.of(decoded));
+
+        Random random = new Random(expression.hashCode());
+        for (int i = 0; i < PROBES; i++) {
+            long epochSecond = -2_208_988_800L + (long) (random.nextDouble() * 6_400_000_000L);
+            long next = cronObject.nextFireEpochSecond(epochSecond);
+            long previous = cronObject.previousFireEpochSecond(epochSecond);
+            assertEquals(next, decoded.nextFireEpochSecond(epochSecond), expression);
+            assertEquals(previous, decoded.previousFireEpochSecond(epochSecond), expression);
+            assertEquals(next, CronEncoding.nextFireEpochSecond(words, OFFSET, epochSecond), expression);
+            assertEquals(previous, CronEncoding.previousFireEpochSecond(words, OFFSET, epochSecond), expression);
+            assertEquals(next == epochSecond, CronEncoding.matches(words, OFFSET, epochSecond), expression);
+            if (next != NO_FIRE) {
+                assertTrue(CronEncoding.matches(words, OFFSET, next), expression);
+            }
+        }
+    }
+
+    @Test
+    void equivalentExpressionsShareFingerprint() {
+        CronObject named = CronExpressionParser.parse("0 0 12 ? JAN-MAR MON-FRI *");
+        CronObject numbered = CronExpressionParser.parse("0 0 12 ? 1,2,3 2-6 *");
+        CronObject other = CronExpressionParser.parse("0 0 12 ? 1,2,3 2-5 *");
+        assertEquals(CronFingerprint.of(named), CronFingerprint.of(numbered));
+        assertEquals(CronFingerprint.of(named).toLong(), CronFingerprint.of(numbered).toLong());
+        assertNotEquals(CronFingerprint.of(named), CronFingerprint.of(other));
+        assertArrayEquals(CronEncoding.encode(named), CronFingerprint.of(CronEncoding.encode(named)).toEncoded());
+    }
+}
@@ -0,0 +1,34 @@
+package com.jw.cronparser.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CronExpressionParserTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "0 0 12 ? * MON-FRI *          | 0 0 12 ? * 2-6 *",
+            "0 0 12 1 JAN,MAR-MAY ? *      | 0 0 12 1 1,3,4,5 ? *",
+            "'  0  0 12 * * ?  * '         | 0 0 12 * * ? *",
+            "0/15 */20 1-7/3 * * ? *       | 0,15,30,45 0,20,40 1,4,7 * * ? *",
+            "0 0 0 ? * SUN,SAT 2020-2022   | 0 0 0 ? * 1,7 2020,2021,2022"
+    })
+    void parsesEquivalentForms(String expression, String equivalent) {
+        assertArrayEquals(CronExpressionParser.parse(equivalent).getCompiledCron().encode(),
+                CronExpressionParser.parse(expression).getCompiledCron().encode());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0 0 12 * * ?", "0 0 12 * * ? * *", "60 0 0 * * ? *", "0 60 0 * * ? *", "0 0 24 * * ? *", "0 0 0 0 * ? *", "0 0 0 * 13 ? *",
+            "0 0 0 ? * 8 *", "0 0 0 1 1 ? 1899", "0 0 0 1 1 ? 2100", "0 0 0 5-1 * ? *", "0 0 0 */0 * ? *", "0 0 0 1,,2 * ? *",
+            "0 0 0 ? jan MON *", "0 0 0 ? * 2#6 *", "0 0 0 L-31 * ? *", "x 0 0 * * ? *"
+    })
+    void rejectsMalformedExpressions(String expression) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> CronExpressionParser.parse(expression));
+        assertTrue(e.getMessage().startsWith("Wrong Cron format"), e.getMessage());
+    }
+}
@@ -0,0 +1,120 @@
+package com.jw.cronparser.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.junit.jupiter.api.Test;
+
+class HashedExpressionTest {
+
+    private static final int KEYS = 500;
+
+    @Test
+    void secondsStayInRange() {
+        assertHashed("H(10-20) 0 0 * * ? *", CompiledCron::getSeconds, 0, 10, 20, 0);
+        assertHashed("H(10-20)/4 0 0 * * ? *", CompiledCron::getSeconds, 0, 10, 20, 4);
+        assertHashed("H/25 0 0 * * ? *", CompiledCron::getSeconds, 0, 0, 59, 25);
+    }
+
+    @Test
+    void minutesStayInRange() {
+        assertHashed("0 H(30-31) 0 * * ? *", CompiledCron::getMinutes, 0, 30, 31, 0);
+        assertHashed("0 H(5-50)/15 0 * * ? *", CompiledCron::getMinutes, 0, 5, 50, 15);
+    }
+
+    @Test
+    void hoursStayInRange() {
+        assertHashed("0 0 H(9-17) * * ? *", CompiledCron::getHours, 0, 9, 17, 0);
+        assertHashed("0 0 H(1-5)/3 * * ? *", CompiledCron::getHours, 0, 1, 5, 3);
+    }
+
+    @Test
+    void daysOfMonthStayInRange() {
+        assertHashed("0 0 0 H * ? *", CompiledCron::getDaysOfMonth, 1, 1, 28, 0);
+        assertHashed("0 0 0 H(3-9) * ? *", CompiledCron::getDaysOfMonth, 1, 3, 9, 0);
+        assertHashed("0 0 0 H(10-20)/7 * ? *", CompiledCron::getDaysOfMonth, 1, 10, 20, 7);
+    }
+
+    @Test
+    void monthsStayInRange() {
+        assertHashed("0 0 0 1 H(3-5) ? *", CompiledCron::getMonths, 1, 3, 5, 0);
+        assertHashed("0 0 0 1 H(2-11)/4 ? *", CompiledCron::getMonths, 1, 2, 11, 4);
+    }
+
+    @Test
+    void daysOfWeekStayInRange() {
+        assertHashed("0 0 0 ? * H(2-6) *", CompiledCron::getDaysOfWeek, 1, 2, 6, 0);
+        assertHashed("0 0 0 ? * H(2-4)/2 *", CompiledCron::getDaysOfWeek, 1, 2, 4, 2);
+        assertHashed("0 0 0 ? * H(2-3)/3 *", CompiledCron::getDaysOfWeek, 1, 2, 3, 3);
+        assertHashed("0 0 0 ? * H/3 *", CompiledCron::getDaysOfWeek, 1, 1, 7, 3);
+    }
+
+    @Test
+    void yearsStayInRange() {
+        for (int key = 0; key < KEYS; key++) {
+            CompiledCron compiledCron = CronExpressionParser.parse("0 0 0 1 1 ? H(2030-2040)/3", "job-" + key).getCompiledCron();
+            List<Integer> years = new ArrayList<>();
+            for (int year = compiledCron.nextYear(0); year >= 0; year = compiledCron.nextYear(year + 1)) {
+                years.add(year);
+            }
+            assertSteps(years, 2030, 2040, 3);
+        }
+    }
+
+    @Test
+    void yearsRequireExplicitRange() {
+        assertThrows(IllegalArgumentException.class, () -> CronExpressionParser.parse("0 0 0 1 1 ? H", "job"));
+        assertThrows(IllegalArgumentException.class, () -> CronExpressionParser.parse("0 0 0 1 1 ? H/5", "job"));
+        int year = CronExpressionParser.parse("0 0 0 1 1 ? H(2030-2035)", "job").getCompiledCron().nextYear(0);
+        assertTrue(year >= 2030 && year <= 2035, String.valueOf(year));
+    }
+
+    @Test
+    void rangedStepMatchesPlainRange() {
+        CronObject ranged = CronExpressionParser.parse("0 0 0 ? * MON-WED/2 *");
+        assertEquals(0b1010, ranged.getCompiledCron().getDaysOfWeek());
+    }
+
+    @Test
+    void sameKeyResolvesSameExpression() {
+        CronObject first = CronExpressionParser.parse("H H H(0-5) ? * H *", "billing");
+        CronObject second = CronExpressionParser.parse("H H H(0-5) ? * H *", "billing");
+        assertArrayEquals(first.getCompiledCron().encode(), second.getCompiledCron().encode());
+        assertThrows(IllegalArgumentException.class, () -> CronExpressionParser.parse("H * * * * ? *"));
+    }
+
+    private static void assertHashed(String expression, ToLongFunction<CompiledCron> field, int offset, int from, int to, int step) {
+        boolean[] seen = new boolean[to + 1];
+        for (int key = 0; key < KEYS; key++) {
+            long mask = field.applyAsLong(CronExpressionParser.parse(expression, "job-" + key).getCompiledCron());
+            List<Integer> values = new ArrayList<>();
+            for (long bits = mask; bits != 0; bits &= bits - 1) {
+                values.add(Long.numberOfTrailingZeros(bits) + offset);
+            }
+            if (step == 0) {
+                assertEquals(1, values.size(), expression);
+            } else {
+                assertSteps(values, from, to, step);
+            }
+            seen[values.get(0)] = true;
+            assertTrue(values.get(0) >= from && values.get(values.size() - 1) <= to, expression + " resolved to " + values);
+        }
+        int bound = step == 0 ? to - from + 1 : Math.min(step, to - from + 1);
+        for (int value = from; value < from + bound; value++) {
+            assertTrue(seen[value], expression + " never starts at " + value);
+        }
+    }
+
+    private static void assertSteps(List<Integer> values, int from, int to, int step) {
+        assertFalse(values.isEmpty());
+        int first = values.get(0);
+        assertTrue(first >= from && first < from + step, "first value " + first);
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(first + i * step, (int) values.get(i));
+        }
+        assertTrue(values.get(values.size() - 1) <= to && values.get(values.size() - 1) + step > to, "values " + values);
+    }
+}
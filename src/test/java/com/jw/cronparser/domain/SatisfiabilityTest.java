@@ -0,0 +1,50 @@
+package com.jw.cronparser.domain;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.jw.cronparser.searcher.SearchInstrumentation;
+
+class SatisfiabilityTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0 0 0 30 2 ? *", "0 0 0 31 4,6,9,11 ? *", "0 0 0 29 2 ? 2097-2099", "0 0 0 ? 2 2#5 2026",
+            "0 0 0 31W 2 ? *"
+    })
+    void detectsUnsatisfiableSchedules(String expression) {
+        CronObject cronObject = CronExpressionParser.parse(expression);
+        SearchInstrumentation.reset();
+        SearchInstrumentation.setCounting(true);
+        try {
+            assertFalse(cronObject.isSatisfiable());
+            assertEquals(NO_FIRE, cronObject.getFirstFireEpochSecond());
+            assertEquals(NO_FIRE, cronObject.getLastFireEpochSecond());
+            assertEquals(NO_FIRE, cronObject.nextFireEpochSecond(0));
+            assertEquals(NO_FIRE, cronObject.previousFireEpochSecond(Long.MAX_VALUE));
+        } finally {
+            SearchInstrumentation.setCounting(false);
+        }
+        assertEquals(0, SearchInstrumentation.snapshot().getSearches());
+        SearchInstrumentation.reset();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0 0 0 29 2 ? 2096-2099", "0 0 0 ? 2 1#5 *", "0 0 0 31 * ? *", "59 59 23 31 12 ? 2099", "0 0 0 1 1 ? 1900" })
+    void boundsSatisfiableSchedules(String expression) {
+        CronObject cronObject = CronExpressionParser.parse(expression);
+        assertTrue(cronObject.isSatisfiable());
+        long first = cronObject.getFirstFireEpochSecond();
+        long last = cronObject.getLastFireEpochSecond();
+        assertEquals(first, cronObject.nextFireEpochSecond(LocalDateTime.of(1900, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC)));
+        assertEquals(last, cronObject.previousFireEpochSecond(LocalDateTime.of(2100, 12, 31, 23, 59, 59).toEpochSecond(ZoneOffset.UTC)));
+        assertEquals(NO_FIRE, cronObject.nextFireEpochSecond(last + 1));
+        assertEquals(NO_FIRE, cronObject.previousFireEpochSecond(first - 1));
+    }
+}
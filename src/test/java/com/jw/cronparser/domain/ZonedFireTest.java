@@ -0,0 +1,103 @@
+package com.jw.cronparser.domain;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.jw.cronparser.CronZone;
+
+class ZonedFireTest {
+
+    private static final String[] EXPRESSIONS = { "0 0 9 * * ? *", "0 30 2 * * ? *", "0 */7 * * * ? *", "15 45 1 ? * SUN *", "0 0 0 L * ? *" };
+    private static final int PROBES = 500;
+
+    @Test
+    void matchesWallClockInZone() {
+        CronObject cronObject = CronExpressionParser.parse("0 0 9 * * ? *");
+        ZoneId zone = ZoneId.of("+05:30");
+        long from = ZonedDateTime.of(2024, 5, 1, 10, 0, 0, 0, zone).toInstant().toEpochMilli();
+        assertEquals(ZonedDateTime.of(2024, 5, 2, 9, 0, 0, 0, zone).toInstant().toEpochMilli(), cronObject.nextFire(from, zone));
+        assertEquals(ZonedDateTime.of(2024, 5, 1, 9, 0, 0, 0, zone).toInstant().toEpochMilli(), cronObject.previousFire(from, zone));
+    }
+
+    @Test
+    void roundsMillisTowardsSearchDirection() {
+        CronObject cronObject = CronExpressionParser.parse("0 0 9 * * ? *");
+        ZoneId zone = ZoneId.of("America/New_York");
+        long fire = ZonedDateTime.of(2024, 5, 1, 9, 0, 0, 0, zone).toInstant().toEpochMilli();
+        assertEquals(fire, cronObject.nextFire(fire, zone));
+        assertEquals(fire, cronObject.previousFire(fire, zone));
+        assertEquals(fire, cronObject.nextFire(fire - 999, zone));
+        assertEquals(fire, cronObject.previousFire(fire + 999, zone));
+        assertEquals(fire + 24 * 3_600_000L, cronObject.nextFire(fire + 1, zone));
+        assertEquals(fire - 24 * 3_600_000L, cronObject.previousFire(fire - 1, zone));
+    }
+
+    @Test
+    void returnsNoFireOutsideSchedule() {
+        CronObject cronObject = CronExpressionParser.parse("0 0 0 1 1 ? 2030");
+        ZoneId zone = ZoneId.of("Europe/Berlin");
+        long fire = ZonedDateTime.of(2030, 1, 1, 0, 0, 0, 0, zone).toInstant().toEpochMilli();
+        assertEquals(NO_FIRE, cronObject.nextFire(fire + 1, zone));
+        assertEquals(NO_FIRE, cronObject.previousFire(fire - 1, zone));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "Europe/Berlin", "America/New_York", "Australia/Lord_Howe", "Asia/Kolkata", "UTC" })
+    void bracketsEveryInstant(String zoneId) {
+        ZoneId zone = ZoneId.of(zoneId);
+        Random random = new Random(zoneId.hashCode());
+        for (String expression : EXPRESSIONS) {
+            CronObject cronObject = CronExpressionParser.parse(expression);
+            for (int i = 0; i < PROBES; i++) {
+                long millis = 1_000_000_000_000L + (long) (random.nextDouble() * 1_500_000_000_000L);
+                long next = cronObject.nextFire(millis, zone);
+                long previous = cronObject.previousFire(millis, zone);
+                String message = expression + " at " + Instant.ofEpochMilli(millis);
+                assertTrue(previous <= millis && millis <= next, message);
+                assertTrue(isWallClockFire(cronObject, next, zone) && isWallClockFire(cronObject, previous, zone), message);
+                assertEquals(next, cronObject.nextFire(previous + 1, zone), message);
+                assertEquals(previous, cronObject.previousFire(next - 1, zone), message);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "Europe/Berlin", "America/New_York", "Australia/Lord_Howe" })
+    void interleavedLookupsMatchZoneRules(String zoneId) {
+        ZoneId zone = ZoneId.of(zoneId);
+        CronZone cronZone = CronZone.of(zone);
+        IntStream.range(0, PROBES * 20).parallel().forEach(i -> {
+            long epochSecond = new Random(i).nextInt() * 2L;
+            LocalDateTime local = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+            assertEquals(zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds(), cronZone.offsetAt(epochSecond));
+            assertEquals(zone.getRules().getValidOffsets(local).isEmpty(), cronZone.isGap(epochSecond), local::toString);
+        });
+    }
+
+    private static boolean isWallClockFire(CronObject cronObject, long millis, ZoneId zone) {
+        Instant instant = Instant.ofEpochMilli(millis);
+        long wall = LocalDateTime.ofInstant(instant, zone).toEpochSecond(ZoneOffset.UTC);
+        if (cronObject.nextFireEpochSecond(wall) == wall) {
+            return true;
+        }
+        ZoneOffsetTransition transition = zone.getRules().previousTransition(instant.plusMillis(1));
+        if (transition == null || !transition.isGap()) {
+            return false;
+        }
+        long shifted = wall - transition.getDuration().getSeconds();
+        return shifted >= transition.getDateTimeBefore().toEpochSecond(ZoneOffset.UTC) && cronObject.nextFireEpochSecond(shifted) == shifted;
+    }
+}
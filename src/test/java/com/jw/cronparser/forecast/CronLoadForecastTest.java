@@ -0,0 +1,74 @@
+package com.jw.cronparser.forecast;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+class CronLoadForecastTest {
+
+    private static final String[] EXPRESSIONS = {
+            "0 0 0 * * ? *", "0 */5 * * * ? *", "*/10 * 9-17 ? * MON-FRI *", "0 0 0 L * ? *", "0 30 0 ? * 6#3 *", "* * * * * ? *",
+            "0 0 0 1 1 ? 2027", "15 0 0 * * ? *", "0 0 12 15W * ? *", "0 0 0 29 2 ? *"
+    };
+
+    @ParameterizedTest
+    @CsvSource({
+            "300, 1798760366, 1798934477, 1", "300, 1798760366, 1798934477, 60", "300, 4102272000, 4102704000, 86400",
+            "5000, 1800000000, 1803456000, 3600", "5000, 1800000000, 1803456000, 86400"
+    })
+    void countsFiresPerBucket(int count, long from, long to, int resolution) {
+        List<CronObject> cronObjects = cronObjects(count);
+
+        CronLoadForecast sequential = CronLoadForecast.compute(cronObjects, from, to, resolution);
+        CronLoadForecast parallel = CronLoadForecast.compute(cronObjects, from, to, resolution, ForkJoinPool.commonPool());
+
+        long start = sequential.getFromEpochSecond();
+        long[] expected = new long[sequential.size()];
+        for (CronObject cronObject : cronObjects.subList(0, EXPRESSIONS.length)) {
+            long weight = cronObjects.stream().filter(other -> other.getExpression().equals(cronObject.getExpression())).count();
+            cronObject.fireEpochSeconds(start, sequential.getToEpochSecond()).forEach(t -> expected[(int) ((t - start) / resolution)] += weight);
+        }
+        assertArrayEquals(expected, sequential.toArray());
+        assertArrayEquals(expected, parallel.toArray());
+        List<CronHotspot> hottest = sequential.getHottest(3);
+        List<CronHotspot> parallelHottest = parallel.getHottest(3);
+        assertEquals(hottest.size(), parallelHottest.size());
+        for (int i = 0; i < hottest.size(); i++) {
+            CronHotspot hotspot = hottest.get(i);
+            assertEquals(hotspot.getCount(), hotspot.getContributors().values().stream().mapToLong(Long::longValue).sum());
+            assertEquals(hotspot.getContributors(), parallelHottest.get(i).getContributors());
+            Map<CronObject, Long> contributors = new HashMap<>();
+            for (CronObject cronObject : cronObjects) {
+                long fires = cronObject.countFires(hotspot.getEpochSecond(), hotspot.getEpochSecond() + resolution);
+                if (fires > 0) {
+                    contributors.merge(cronObject, fires, Long::sum);
+                }
+            }
+            assertEquals(contributors, hotspot.getContributors());
+        }
+    }
+
+    private static List<CronObject> cronObjects(int count) {
+        CronParser parser = new CronParser(EXPRESSIONS.length);
+        Random random = new Random(count);
+        List<CronObject> result = new ArrayList<>(count);
+        for (String expression : EXPRESSIONS) {
+            result.add(parser.parse(expression));
+        }
+        while (result.size() < count) {
+            result.add(parser.parse(EXPRESSIONS[random.nextInt(EXPRESSIONS.length)]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package com.jw.cronparser.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+class CronIndexTest {
+
+    private static final String[] EXPRESSIONS = {
+            "* * * ? * * *", "0 0 12 ? * * *", "0 */15 * ? * MON-FRI *", "30 0 0 L * ? *", "0 0 9 LW * ? *", "0 0 9 15W * ? *",
+            "0 0 10 ? * 6L *", "0 0 10 ? * 2#3 *", "0 5 * L-3 * ? *", "*/7 */3 1-5 1,15 JAN,JUN ? 2024-2026", "0 0 0 29 2 ? *",
+            "0 30 * ? * 1,7 *"
+    };
+    private static final long FROM = 1_704_067_200L - 5000;
+
+    @Test
+    void matchesLikeSearches() {
+        CronParser parser = new CronParser();
+        List<CronObject> cronObjects = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            cronObjects.add(parser.parse(EXPRESSIONS[i % EXPRESSIONS.length]));
+        }
+        CronIndex index = new CronIndex(cronObjects);
+        assertEquals(cronObjects.size(), index.size());
+        Random random = new Random(3);
+        long epochSecond = FROM;
+        for (int i = 0; i < 50_000; i++) {
+            epochSecond += random.nextInt(10) == 0 ? random.nextInt(200_000) : 1;
+            long t = epochSecond;
+            int[] expected = IntStream.range(0, cronObjects.size()).filter(id -> cronObjects.get(id).nextFireEpochSecond(t) == t).toArray();
+            int[] matching = index.matching(t);
+            Arrays.sort(matching);
+            assertArrayEquals(expected, matching, "at " + t);
+            IntStream.Builder visited = IntStream.builder();
+            index.forEachMatching(t, visited::add);
+            assertArrayEquals(expected, visited.build().sorted().toArray(), "at " + t);
+        }
+    }
+
+    @Test
+    void matchesLocalDateTime() {
+        CronParser parser = new CronParser();
+        CronIndex index = new CronIndex(List.of(parser.parse("0 0 12 ? * * *"), parser.parse("0 0 0 29 2 ? *")));
+        assertArrayEquals(new int[] { 0 }, index.matching(LocalDateTime.of(2024, 2, 29, 12, 0)));
+        assertArrayEquals(new int[] { 1 }, index.matching(LocalDateTime.of(2024, 2, 29, 0, 0)));
+        assertArrayEquals(new int[0], index.matching(LocalDateTime.of(2023, 2, 28, 0, 0)));
+        assertEquals("0 0 0 29 2 ? *", index.get(1).getExpression());
+    }
+}
@@ -0,0 +1,135 @@
+package com.jw.cronparser.loader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.jw.cronparser.domain.CronObject;
+
+class CronBulkLoaderTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final CronBulkLoader loader = new CronBulkLoader(executor, 4, 3);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void loadsAndRejectsLines() throws IOException {
+        StringBuilder text = new StringBuilder("# jobs\n\n");
+        for (int i = 0; i < 100; i++) {
+            text.append("job-").append(i).append('\t').append(i % 10 == 0 ? "0 0 0 32 * ? *" : "0 0/5 * * * ? *").append('\n');
+        }
+        text.append("no separator\n");
+        RecordingSink sink = new RecordingSink();
+
+        CronLoadResult result = loader.load(new BufferedReader(new StringReader(text.toString())), sink);
+
+        assertEquals(103, result.getLines());
+        assertEquals(90, result.getLoaded());
+        assertEquals(11, result.getRejected());
+        assertEquals(90, sink.accepted.size());
+        assertEquals(11, sink.rejected.size());
+        assertTrue(sink.rejected.get(103L).startsWith("Missing tab separator"));
+        assertTrue(sink.rejected.containsKey(3L));
+    }
+
+    @Test
+    void rejectsGarbageLines() throws IOException {
+        String[] garbage = {
+                "\t0", "a\t ", "b\tx y z", "c\t0 0 0 ? * 8#9 *", "d\t0 0 0 ? * #", "e\t0 0 0 L-40 * ? *",
+                "f\t0 0 0 ? * H(9-1) *", "g\t0 0 0 W * ? *", "h\t-/ , * * * ? *", "i\t0 0 0 1 1 ? 1800-9999/0"
+        };
+        RecordingSink sink = new RecordingSink();
+
+        CronLoadResult result = loader.load(new BufferedReader(new StringReader(String.join("\n", garbage))), sink);
+
+        assertEquals(garbage.length, result.getLines());
+        assertEquals(0, result.getLoaded());
+        assertEquals(garbage.length, result.getRejected());
+        assertEquals(garbage.length, sink.rejected.size());
+    }
+
+    @Test
+    void readFailureKeepsSinkFailureSuppressed() {
+        IllegalStateException sinkFailure = new IllegalStateException("sink");
+        CronLoadSink sink = new CronLoadSink() {
+            @Override
+            public void accept(String id, CronObject cronObject) {
+                throw sinkFailure;
+            }
+
+            @Override
+            public void reject(long lineNumber, String line, String message) {
+            }
+        };
+        Reader reader = new Reader() {
+            private final Reader lines = new StringReader("a\t0 0 0 * * ? *\n");
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                int read = lines.read(buffer, offset, length);
+                if (read < 0) {
+                    throw new IOException("disk");
+                }
+                return read;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        CronBulkLoader loader = new CronBulkLoader(Runnable::run, 1, 1);
+
+        IOException e = assertThrows(IOException.class, () -> loader.load(new BufferedReader(reader), sink));
+
+        assertEquals("disk", e.getMessage());
+        assertArrayEquals(new Throwable[] { sinkFailure }, e.getSuppressed());
+    }
+
+    @Test
+    void sinkFailureIsRethrown() {
+        CronLoadSink sink = new CronLoadSink() {
+            @Override
+            public void accept(String id, CronObject cronObject) {
+                throw new AssertionError(id);
+            }
+
+            @Override
+            public void reject(long lineNumber, String line, String message) {
+            }
+        };
+
+        AssertionError e = assertThrows(AssertionError.class,
+                () -> loader.load(new BufferedReader(new StringReader("a\t0 0 0 * * ? *")), sink));
+        assertEquals("a", e.getMessage());
+    }
+
+    private static final class RecordingSink implements CronLoadSink {
+
+        private final Map<String, CronObject> accepted = new ConcurrentHashMap<>();
+        private final Map<Long, String> rejected = new ConcurrentHashMap<>();
+
+        @Override
+        public void accept(String id, CronObject cronObject) {
+            accepted.put(id, cronObject);
+        }
+
+        @Override
+        public void reject(long lineNumber, String line, String message) {
+            rejected.put(lineNumber, String.valueOf(message));
+        }
+    }
+}
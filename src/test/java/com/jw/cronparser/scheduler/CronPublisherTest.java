@@ -0,0 +1,100 @@
+package com.jw.cronparser.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.ZoneOffset;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.scheduler.CronSchedulerTest.MutableClock;
+
+class CronPublisherTest {
+
+    private static final long NOW = 1_700_000_000L;
+
+    private final CronParser parser = new CronParser();
+
+    @Test
+    void subscribeStartsSchedulerAndDeliversFires() throws InterruptedException {
+        MutableClock clock = new MutableClock(ZoneOffset.UTC, NOW);
+        CronScheduler scheduler = new CronScheduler(Runnable::run, clock);
+        RecordingSubscriber subscriber = new RecordingSubscriber(3);
+        try {
+            new CronPublisher(scheduler, parser.parse("* * * * * ? *"), MissedFirePolicy.COALESCE).subscribe(subscriber);
+            assertTrue(scheduler.isRunning());
+            for (long second = NOW + 1; second <= NOW + 3; second++) {
+                clock.set(second);
+                assertEquals(second, ((FireEvent) subscriber.signals.poll(5, TimeUnit.SECONDS)).getEpochSecond());
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void holdsSignalsUntilOnSubscribeReturns() throws InterruptedException {
+        CronScheduler scheduler = new CronScheduler(Runnable::run, new MutableClock(ZoneOffset.UTC, NOW));
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        try {
+            new CronPublisher(scheduler, parser.parse("0 0 0 1 1 ? 2000"), MissedFirePolicy.COALESCE).subscribe(subscriber);
+        } finally {
+            scheduler.shutdown();
+        }
+        assertEquals("complete", subscriber.signals.poll(5, TimeUnit.SECONDS));
+        assertFalse(subscriber.signalledInOnSubscribe);
+    }
+
+    @Test
+    void signalsErrorWhenSchedulerIsShutDown() throws InterruptedException {
+        CronScheduler scheduler = new CronScheduler(Runnable::run, new MutableClock(ZoneOffset.UTC, NOW));
+        scheduler.shutdown();
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        new CronPublisher(scheduler, parser.parse("* * * * * ? *"), MissedFirePolicy.COALESCE).subscribe(subscriber);
+        assertTrue(subscriber.signals.poll(5, TimeUnit.SECONDS) instanceof IllegalStateException);
+        assertFalse(subscriber.signalledInOnSubscribe);
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<FireEvent> {
+
+        private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+        private final long demand;
+        private volatile boolean subscribing;
+        private volatile boolean signalledInOnSubscribe;
+
+        private RecordingSubscriber(long demand) {
+            this.demand = demand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscribing = true;
+            subscription.request(demand);
+            subscribing = false;
+        }
+
+        @Override
+        public void onNext(FireEvent item) {
+            signal(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            signal(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            signal("complete");
+        }
+
+        private void signal(Object signal) {
+            signalledInOnSubscribe |= subscribing;
+            signals.add(signal);
+        }
+    }
+}
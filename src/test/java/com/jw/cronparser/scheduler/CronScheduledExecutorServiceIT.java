@@ -0,0 +1,23 @@
+package com.jw.cronparser.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.jw.cronparser.CronParser;
+
+class CronScheduledExecutorServiceIT {
+
+    @Test
+    void runsCommandsOnVirtualThreads() throws Exception {
+        assertTrue(CronScheduledExecutorService.isVirtualThreadSupported());
+        CompletableFuture<String> thread = new CompletableFuture<>();
+        try (CronScheduledExecutorService executor = new CronScheduledExecutorService()) {
+            executor.schedule(new CronParser().parse("* * * * * ? *"), () -> thread.complete(Thread.currentThread().toString()));
+            assertTrue(thread.get(5, TimeUnit.SECONDS).startsWith("VirtualThread"), thread.get());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.jw.cronparser.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+class CronScheduledExecutorServiceTest {
+
+    private final CronObject everySecond = new CronParser().parse("* * * * * ? *");
+
+    @Test
+    void runsScheduledCommands() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(2);
+        try (CronScheduledExecutorService executor = new CronScheduledExecutorService()) {
+            executor.schedule(everySecond, fired::countDown);
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void rejectsCommandsAfterShutdown() {
+        CronScheduledExecutorService executor = new CronScheduledExecutorService();
+        executor.close();
+        assertTrue(executor.isShutdown());
+        assertTrue(executor.isTerminated());
+        assertThrows(RejectedExecutionException.class, () -> executor.schedule(everySecond, () -> { }));
+    }
+}
@@ -0,0 +1,96 @@
+package com.jw.cronparser.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+class CronSchedulerTest {
+
+    private final CronParser parser = new CronParser();
+
+    @Test
+    void firesInClockZone() throws InterruptedException {
+        ZoneId zone = ZoneId.of("Europe/Warsaw");
+        MutableClock clock = new MutableClock(zone, LocalDateTime.of(2024, 3, 31, 0, 59, 0).atZone(zone).toEpochSecond());
+        CronScheduler scheduler = new CronScheduler(Runnable::run, clock);
+        CronObject cronObject = parser.parse("0 0 1,3 * * ? *");
+        BlockingQueue<Long> fires = new LinkedBlockingQueue<>();
+        scheduler.schedule(cronObject, fires::add);
+        scheduler.start();
+        try {
+            clock.set(LocalDateTime.of(2024, 3, 31, 3, 30, 0).atZone(zone).toEpochSecond());
+            assertEquals(LocalDateTime.of(2024, 3, 31, 1, 0, 0).atZone(zone).toEpochSecond(), fires.poll(5, TimeUnit.SECONDS));
+            assertEquals(LocalDateTime.of(2024, 3, 31, 3, 0, 0).atZone(zone).toEpochSecond(), fires.poll(5, TimeUnit.SECONDS));
+            assertNull(fires.poll(100, TimeUnit.MILLISECONDS));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void nextFireUsesClockZone() {
+        MutableClock clock = new MutableClock(ZoneOffset.ofHours(-5), 0);
+        CronScheduler scheduler = new CronScheduler(Runnable::run, clock);
+        CronObject cronObject = parser.parse("0 0 9 * * ? *");
+        long from = LocalDateTime.of(2024, 1, 10, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        assertEquals(LocalDateTime.of(2024, 1, 10, 14, 0).toEpochSecond(ZoneOffset.UTC), scheduler.nextFireEpochSecond(cronObject, from));
+    }
+
+    @Test
+    void rejectsStartAfterShutdown() {
+        CronScheduler scheduler = new CronScheduler(Runnable::run, new MutableClock(ZoneOffset.UTC, 0));
+        scheduler.start();
+        scheduler.start();
+        assertTrue(scheduler.isRunning());
+        scheduler.shutdown();
+        assertFalse(scheduler.isRunning());
+        assertThrows(IllegalStateException.class, scheduler::start);
+    }
+
+    static final class MutableClock extends Clock {
+
+        private final ZoneId zone;
+        private volatile long millis;
+
+        MutableClock(ZoneId zone, long epochSecond) {
+            this.zone = zone;
+            set(epochSecond);
+        }
+
+        void set(long epochSecond) {
+            millis = epochSecond * 1000 + 999;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(zone, Math.floorDiv(millis, 1000));
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
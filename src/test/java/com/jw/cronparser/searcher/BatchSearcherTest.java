@@ -0,0 +1,51 @@
+package com.jw.cronparser.searcher;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+class BatchSearcherTest {
+
+    private static final String[] EXPRESSIONS = {
+            "* * * ? * * *", "0 0 12 ? * * *", "0 */15 * ? * MON-FRI *", "30 0 0 L * ? *", "0 0 9 LW * ? *", "0 0 10 ? * 2#3 *",
+            "0 0 0 1 1 ? 1950", "0 0 0 30 2 ? *"
+    };
+    private static final int SCHEDULES = 5_000;
+    private static final int INSTANTS = 20;
+
+    @Test
+    void matchesIndividualSearches() {
+        CronParser parser = new CronParser(EXPRESSIONS.length);
+        CronObject[] schedules = new CronObject[SCHEDULES];
+        for (int i = 0; i < schedules.length; i++) {
+            schedules[i] = parser.parse(EXPRESSIONS[i % EXPRESSIONS.length]);
+        }
+        Random random = new Random(2);
+        long[] parallel = new long[schedules.length + 1];
+        for (int k = 0; k < INSTANTS; k++) {
+            long epochSecond = -2_300_000_000L + (long) (random.nextDouble() * 6.6e9);
+            long[] sequential = BatchSearcher.nextFireEpochSeconds(schedules, epochSecond);
+            BatchSearcher.nextFireEpochSeconds(schedules, epochSecond, parallel, ForkJoinPool.commonPool());
+            for (int i = 0; i < schedules.length; i++) {
+                long expected = schedules[i].nextFireEpochSecond(epochSecond);
+                assertEquals(expected, sequential[i]);
+                assertEquals(expected, parallel[i]);
+            }
+        }
+    }
+
+    @Test
+    void handlesBoundsAndShortResults() {
+        CronObject[] schedules = { new CronParser().parse("0 0 0 * * ? *") };
+        assertArrayEquals(new long[] { NO_FIRE }, BatchSearcher.nextFireEpochSeconds(schedules, Long.MAX_VALUE));
+        assertArrayEquals(new long[] { schedules[0].getFirstFireEpochSecond() }, BatchSearcher.nextFireEpochSeconds(schedules, Long.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> BatchSearcher.nextFireEpochSeconds(schedules, 0, new long[0]));
+    }
+}
@@ -0,0 +1,51 @@
+package com.jw.cronparser.searcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+class CronSearchTest {
+
+    private final CronParser parser = new CronParser();
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "0 0 12 ? * 2#3 *        | 2024-01-01T13:00    | 2024-01-15T12:00",
+            "30 10 8 L * ? *         | 2024-02-10T00:00    | 2024-02-29T08:10:30",
+            "0 0 12 LW * ? *         | 2024-03-01T00:00    | 2024-03-29T12:00",
+            "0 0 12 15W * ? *        | 2024-06-01T00:00    | 2024-06-14T12:00",
+            "0 0 12 1W * ? *         | 2024-06-01T00:00    | 2024-06-03T12:00",
+            "0 0 12 ? * 6L *         | 2024-02-01T00:00    | 2024-02-23T12:00",
+            "0 0 12 L-3 * ? *        | 2024-02-01T00:00    | 2024-02-26T12:00",
+            "0 0 0 29 2 ? *          | 2024-03-01T00:00    | 2028-02-29T00:00",
+            "0 0/15 9-17 ? * MON-FRI * | 2024-01-05T17:45:01 | 2024-01-08T09:00",
+            "15,45 5-10/2 1-3 1-10 JAN-MAR,SEP ? 2020-2030 | 2024-03-10T03:09:46 | 2024-09-01T01:05:15",
+            "59 59 23 31 12 ? 2099   | 2099-12-31T23:59:59 | 2099-12-31T23:59:59",
+            "0 0 0 1 1 ? 2024        | 2024-01-01T00:00:01 |"
+    })
+    void findsNextFire(String expression, LocalDateTime from, LocalDateTime expected) {
+        CronObject cronObject = parser.parse(expression);
+        assertEquals(expected, cronObject.nextFireDateTime(from));
+        if (expected != null) {
+            assertEquals(expected, cronObject.previousFireDateTime(expected));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "0 0 0 29 2 ? *          | 2024-02-28T00:00    | 2020-02-29T00:00",
+            "0 0 12 ? * 2#5 *        | 2024-05-01T00:00    | 2024-04-29T12:00",
+            "0 0 12 LW * ? *         | 2024-07-01T00:00    | 2024-06-28T12:00",
+            "0 0 0 1 1 ? 1900        | 1900-01-01T00:00    | 1900-01-01T00:00",
+            "0 0 0 1 1 ? 2030        | 2029-12-31T23:59:59 |"
+    })
+    void findsPreviousFire(String expression, LocalDateTime from, LocalDateTime expected) {
+        assertEquals(expected, parser.parse(expression).previousFireDateTime(from));
+    }
+}
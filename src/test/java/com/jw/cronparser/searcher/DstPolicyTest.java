@@ -0,0 +1,145 @@
+package com.jw.cronparser.searcher;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+class DstPolicyTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final String[] EXPRESSIONS = {
+            "0 30 2 * * ? *", "0 */7 * * * ? *", "0 0 1,2,3 * * ? *", "15 45 1 ? * SUN *", "0 0 0 1 1 ? 2030", "0 * 1-3 * * ? *"
+    };
+    private static final int TRANSITIONS = 6;
+    private static final int WINDOW = 2 * 3600;
+    private static final int STEP = 257;
+
+    private final CronParser parser = new CronParser();
+
+    @Test
+    void gapIsSkippedOrShifted() {
+        CronObject cronObject = parser.parse("0 30 2 * * ? *");
+        ForwardSearcher forward = cronObject.getForwardSearcher();
+        ZonedDateTime before = ZonedDateTime.of(2024, 3, 31, 1, 0, 0, 0, BERLIN);
+
+        assertEquals(ZonedDateTime.of(2024, 4, 1, 2, 30, 0, 0, BERLIN), forward.findClosest(before, DstGapPolicy.SKIP, DstOverlapPolicy.ONCE));
+        assertEquals(ZonedDateTime.of(2024, 3, 31, 3, 30, 0, 0, BERLIN), forward.findClosest(before, DstGapPolicy.SHIFT, DstOverlapPolicy.ONCE));
+        assertEquals(ZonedDateTime.of(2024, 3, 31, 3, 30, 0, 0, BERLIN), cronObject.nextFireDateTime(before));
+
+        ZonedDateTime after = ZonedDateTime.of(2024, 3, 31, 12, 0, 0, 0, BERLIN);
+        BackwardSearcher backward = cronObject.getBackwardSearcher();
+        assertEquals(ZonedDateTime.of(2024, 3, 30, 2, 30, 0, 0, BERLIN), backward.findClosest(after, DstGapPolicy.SKIP, DstOverlapPolicy.ONCE));
+        assertEquals(ZonedDateTime.of(2024, 3, 31, 3, 30, 0, 0, BERLIN), backward.findClosest(after, DstGapPolicy.SHIFT, DstOverlapPolicy.ONCE));
+    }
+
+    @Test
+    void overlapFiresOnceOrTwice() {
+        CronObject cronObject = parser.parse("0 30 2 * * ? *");
+        ForwardSearcher forward = cronObject.getForwardSearcher();
+        ZonedDateTime earlier = ZonedDateTime.of(2024, 10, 27, 2, 30, 0, 0, BERLIN).withEarlierOffsetAtOverlap();
+        ZonedDateTime later = earlier.withLaterOffsetAtOverlap();
+        ZonedDateTime before = ZonedDateTime.of(2024, 10, 27, 1, 0, 0, 0, BERLIN);
+
+        assertEquals(earlier, forward.findClosest(before, DstGapPolicy.SHIFT, DstOverlapPolicy.ONCE));
+        assertEquals(earlier, forward.findClosest(before, DstGapPolicy.SHIFT, DstOverlapPolicy.TWICE));
+        assertEquals(ZonedDateTime.of(2024, 10, 28, 2, 30, 0, 0, BERLIN),
+                forward.findClosest(earlier.plusSeconds(1), DstGapPolicy.SHIFT, DstOverlapPolicy.ONCE));
+        assertEquals(later, forward.findClosest(earlier.plusSeconds(1), DstGapPolicy.SHIFT, DstOverlapPolicy.TWICE));
+
+        BackwardSearcher backward = cronObject.getBackwardSearcher();
+        ZonedDateTime after = ZonedDateTime.of(2024, 10, 27, 4, 0, 0, 0, BERLIN);
+        assertEquals(earlier, backward.findClosest(after, DstGapPolicy.SHIFT, DstOverlapPolicy.ONCE));
+        assertEquals(later, backward.findClosest(after, DstGapPolicy.SHIFT, DstOverlapPolicy.TWICE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "Europe/Berlin", "America/New_York", "Australia/Lord_Howe", "Pacific/Apia", "America/Sao_Paulo", "UTC", "+05:30" })
+    void matchesWallClockResolution(String zoneId) {
+        ZoneId zone = ZoneId.of(zoneId);
+        List<Long> probes = new ArrayList<>(List.of(1_000_000_000L, 1_700_000_000L, 2_400_000_000L));
+        ZoneOffsetTransition transition = zone.getRules().nextTransition(Instant.ofEpochSecond(1_250_000_000L));
+        for (int i = 0; i < TRANSITIONS && transition != null; i++) {
+            for (int delta = -WINDOW; delta <= WINDOW; delta += STEP) {
+                probes.add(transition.toEpochSecond() + delta);
+            }
+            transition = zone.getRules().nextTransition(transition.getInstant());
+        }
+        for (String expression : EXPRESSIONS) {
+            CronObject cronObject = parser.parse(expression);
+            for (DstGapPolicy gapPolicy : DstGapPolicy.values()) {
+                for (DstOverlapPolicy overlapPolicy : DstOverlapPolicy.values()) {
+                    for (long probe : probes) {
+                        String message = expression + " " + gapPolicy + " " + overlapPolicy + " at " + probe;
+                        assertEquals(next(cronObject, probe, zone, gapPolicy, overlapPolicy),
+                                cronObject.getForwardSearcher().findClosest(probe, zone, gapPolicy, overlapPolicy), message);
+                        assertEquals(previous(cronObject, probe, zone, gapPolicy, overlapPolicy),
+                                cronObject.getBackwardSearcher().findClosest(probe, zone, gapPolicy, overlapPolicy), message);
+                    }
+                }
+            }
+        }
+    }
+
+    private static long next(CronObject cronObject, long epochSecond, ZoneId zone, DstGapPolicy gapPolicy, DstOverlapPolicy overlapPolicy) {
+        long best = NO_FIRE;
+        for (long wall = cronObject.nextFireEpochSecond(epochSecond - 26 * 3600); wall != NO_FIRE; wall = cronObject.nextFireEpochSecond(wall + 1)) {
+            if (best != NO_FIRE && wall - 26 * 3600 > best) {
+                break;
+            }
+            for (long instant : instants(wall, zone, gapPolicy, overlapPolicy)) {
+                if (instant >= epochSecond && (best == NO_FIRE || instant < best)) {
+                    best = instant;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static long previous(CronObject cronObject, long epochSecond, ZoneId zone, DstGapPolicy gapPolicy, DstOverlapPolicy overlapPolicy) {
+        long best = NO_FIRE;
+        for (long wall = cronObject.previousFireEpochSecond(epochSecond + 26 * 3600); wall != NO_FIRE; wall = cronObject.previousFireEpochSecond(wall - 1)) {
+            if (best != NO_FIRE && wall + 26 * 3600 < best) {
+                break;
+            }
+            for (long instant : instants(wall, zone, gapPolicy, overlapPolicy)) {
+                if (instant <= epochSecond && instant > best) {
+                    best = instant;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static List<Long> instants(long wall, ZoneId zone, DstGapPolicy gapPolicy, DstOverlapPolicy overlapPolicy) {
+        LocalDateTime local = LocalDateTime.ofEpochSecond(wall, 0, ZoneOffset.UTC);
+        List<ZoneOffset> offsets = zone.getRules().getValidOffsets(local);
+        List<Long> result = new ArrayList<>();
+        if (offsets.isEmpty()) {
+            if (gapPolicy == DstGapPolicy.SHIFT) {
+                result.add(ZonedDateTime.ofLocal(local, zone, null).toEpochSecond());
+            }
+        } else if (offsets.size() == 1 || overlapPolicy == DstOverlapPolicy.ONCE) {
+            result.add(ZonedDateTime.ofLocal(local, zone, null).toEpochSecond());
+        } else {
+            for (ZoneOffset offset : offsets) {
+                result.add(wall - offset.getTotalSeconds());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package com.jw.cronparser.searcher;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+class FireTimeIteratorTest {
+
+    private static final long FROM = LocalDateTime.of(2023, 12, 30, 22, 17, 3).toEpochSecond(ZoneOffset.UTC);
+    private static final int FIRES = 5_000;
+
+    private final CronParser parser = new CronParser();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "* * * * * ? *", "0 0/15 * * * ? *", "15,45 5-10/2 1-3 1-10 JAN-MAR,SEP ? 2020-2030", "30 10 8 L * ? *",
+            "0 0 12 LW * ? *", "0 0 12 ? * 6L *", "0 0 12 ? * 2#3 *", "0 0 0 29 2 ? *", "0/7 0/13 0/5 1/3 1/4 ? *",
+            "59 59 23 31 12 ? 2099/1", "0 0 0 1 1 ? 2024"
+    })
+    void iteratesLikeRepeatedSearches(String expression) {
+        CronObject cronObject = parser.parse(expression);
+        FireTimeIterator forward = FireTimeIterator.forward(cronObject.getForwardSearcher(), FROM);
+        long expected = cronObject.nextFireEpochSecond(FROM);
+        for (int i = 0; i < FIRES && expected != NO_FIRE; i++) {
+            assertTrue(forward.hasNext());
+            assertEquals(expected, forward.nextLong());
+            expected = cronObject.nextFireEpochSecond(expected + 1);
+        }
+        assertEquals(expected != NO_FIRE, forward.hasNext());
+
+        FireTimeIterator backward = FireTimeIterator.backward(cronObject.getBackwardSearcher(), FROM);
+        expected = cronObject.previousFireEpochSecond(FROM);
+        for (int i = 0; i < FIRES && expected != NO_FIRE; i++) {
+            assertTrue(backward.hasNext());
+            assertEquals(expected, backward.nextLong());
+            expected = cronObject.previousFireEpochSecond(expected - 1);
+        }
+        assertEquals(expected != NO_FIRE, backward.hasNext());
+    }
+
+    @Test
+    void stopsAtLastFire() {
+        CronObject cronObject = parser.parse("0 0 12 ? * MON-FRI 2099");
+        FireTimeIterator iterator = FireTimeIterator.forward(cronObject.getForwardSearcher(), FROM);
+        long count = 0;
+        while (iterator.hasNext()) {
+            assertTrue(iterator.nextLong() <= cronObject.getLastFireEpochSecond());
+            count++;
+        }
+        assertEquals(261, count);
+        assertThrows(NoSuchElementException.class, iterator::nextLong);
+    }
+
+    @Test
+    void searchesOnlyWhenMonthRollsOver() {
+        CronObject cronObject = parser.parse("0 * * * * ? *");
+        SearchInstrumentation.reset();
+        SearchInstrumentation.setCounting(true);
+        try {
+            FireTimeIterator iterator = FireTimeIterator.forward(cronObject.getForwardSearcher(), FROM);
+            for (int i = 0; i < 3 * 24 * 60; i++) {
+                iterator.nextLong();
+            }
+        } finally {
+            SearchInstrumentation.setCounting(false);
+        }
+        assertEquals(2, SearchInstrumentation.snapshot().getSearches());
+        SearchInstrumentation.reset();
+    }
+}
@@ -0,0 +1,93 @@
+package com.jw.cronparser.searcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+class FireTimeSpliteratorTest {
+
+    private static final long FROM = LocalDateTime.of(2023, 11, 17, 13, 5, 7).toEpochSecond(ZoneOffset.UTC);
+    private static final long TO = LocalDateTime.of(2026, 2, 3, 4, 5, 6).toEpochSecond(ZoneOffset.UTC);
+
+    private final CronParser parser = new CronParser();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0 0 * * * ? *", "0 0/15 9-17 ? * MON-FRI *", "30 10 8 L * ? *", "0 0 12 LW * ? *", "0 0 12 ? * 6L *", "0 0 12 ? * 2#3 *",
+            "0 0 0 29 2 ? *", "0 0 0 1 1 ? 2025", "0 0 0 1 1 ? 2030"
+    })
+    void estimateSizeIsExact(String expression) {
+        CronObject cronObject = parser.parse(expression);
+        FireTimeSpliterator spliterator = new FireTimeSpliterator(cronObject, FROM, TO);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        long[] expected = iterate(cronObject, FROM, TO);
+        assertEquals(expected.length, spliterator.estimateSize());
+        assertEquals(expected.length, spliterator.getExactSizeIfKnown());
+
+        for (int i = 0; i < Math.min(3, expected.length); i++) {
+            int index = i;
+            assertTrue(spliterator.tryAdvance((long fire) -> assertEquals(expected[index], fire)));
+            assertEquals(expected.length - i - 1, spliterator.estimateSize());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0 0 * * * ? *", "0 0/15 9-17 ? * MON-FRI *", "0 0 12 ? * 6L *", "0 0 0 29 2 ? *", "0 0 0 1 1 ? 2030" })
+    void splitsPreserveSizes(String expression) {
+        CronObject cronObject = parser.parse(expression);
+        long[] expected = iterate(cronObject, FROM, TO);
+        LongStream.Builder fires = LongStream.builder();
+        long leaves = 0;
+        Deque<Spliterator.OfLong> pending = new ArrayDeque<>();
+        pending.push(new FireTimeSpliterator(cronObject, FROM, TO));
+        while (!pending.isEmpty()) {
+            Spliterator.OfLong suffix = pending.pop();
+            long size = suffix.estimateSize();
+            Spliterator.OfLong prefix = suffix.trySplit();
+            if (prefix == null) {
+                leaves++;
+                suffix.forEachRemaining((LongConsumer) fires::add);
+                continue;
+            }
+            assertTrue(prefix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+            assertEquals(size, prefix.estimateSize() + suffix.estimateSize());
+            pending.push(suffix);
+            pending.push(prefix);
+        }
+        assertTrue(leaves > 1);
+        assertArrayEquals(expected, fires.build().toArray());
+        assertArrayEquals(expected, cronObject.fireEpochSeconds(FROM, TO).toArray());
+        assertArrayEquals(expected, cronObject.fireEpochSeconds(FROM, TO).parallel().toArray());
+        assertEquals(expected.length, cronObject.fireEpochSeconds(FROM, TO).parallel().count());
+    }
+
+    @Test
+    void emptyRangeHasNoFires() {
+        CronObject cronObject = parser.parse("0 0 0 * * ? *");
+        FireTimeSpliterator spliterator = new FireTimeSpliterator(cronObject, TO, FROM);
+        assertEquals(0, spliterator.estimateSize());
+        assertNull(spliterator.trySplit());
+        assertFalse(spliterator.tryAdvance((long fire) -> fail()));
+    }
+
+    private static long[] iterate(CronObject cronObject, long from, long to) {
+        LongStream.Builder result = LongStream.builder();
+        for (long fire = cronObject.nextFireEpochSecond(from); fire != CronSearcher.NO_FIRE && fire < to; fire = cronObject.nextFireEpochSecond(fire + 1)) {
+            result.add(fire);
+        }
+        return result.build().toArray();
+    }
+}
@@ -0,0 +1,68 @@
+package com.jw.cronparser.searcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Test;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronObject;
+
+class SearchAllocationTest {
+
+    private static final String[] EXPRESSIONS = {
+            "0 0 0 12,13,16 * ? *", "0 0/15 * * * ? *", "30 10 8 L * ? *", "0 0 12 LW * ? *", "0 0 12 15W * ? *",
+            "0 0 12 ? * 6L *", "0 0 12 ? * 2#3 *", "0 0 12 ? * MON-FRI *", "15,45 5-10/2 1-3 1-10 JAN-MAR,SEP ? 2020-2030",
+            "0 0 0 30 2 ? *", "0/7 0/13 0/5 1/3 1/4 ? *"
+    };
+    private static final int WARM_UP = 1_000;
+    private static final int SEARCHES = 100_000;
+    private static final long STEP = 7919;
+
+    @Test
+    void nextFireEpochSecondDoesNotAllocate() {
+        assertFalse(SearchInstrumentation.isCounting());
+        CronObject[] cronObjects = parse();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long sink = search(cronObjects, WARM_UP);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        sink += search(cronObjects, SEARCHES);
+        long after = threads.getThreadAllocatedBytes(threadId);
+        assertNotEquals(0, sink);
+        assertTrue((after - before) / (double) SEARCHES < 1, "Allocated " + (after - before) + " bytes in " + SEARCHES + " searches");
+    }
+
+    @Test
+    void countingStillRecordsSearches() {
+        CronObject cronObject = new CronParser().parse(EXPRESSIONS[1]);
+        SearchInstrumentation.reset();
+        SearchInstrumentation.setCounting(true);
+        try {
+            cronObject.nextFireEpochSecond(0);
+            cronObject.previousFireEpochSecond(0);
+        } finally {
+            SearchInstrumentation.setCounting(false);
+        }
+        assertEquals(2, SearchInstrumentation.snapshot().getSearches());
+        SearchInstrumentation.reset();
+    }
+
+    private static CronObject[] parse() {
+        CronParser parser = new CronParser();
+        CronObject[] cronObjects = new CronObject[EXPRESSIONS.length];
+        for (int i = 0; i < EXPRESSIONS.length; i++) {
+            cronObjects[i] = parser.parse(EXPRESSIONS[i]);
+        }
+        return cronObjects;
+    }
+
+    private static long search(CronObject[] cronObjects, int count) {
+        long sink = 0;
+        for (int i = 0; i < count; i++) {
+            sink += cronObjects[i % cronObjects.length].nextFireEpochSecond(i * STEP);
+        }
+        return sink;
+    }
+}
@@ -0,0 +1,111 @@
+package com.jw.cronparser.store;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronEncoding;
+
+class CronScheduleFileTest {
+
+    private static final List<String> EXPRESSIONS = List.of("0 0 0 * * ? *", "0 0/15 * * * ? *", "0 0 12 ? * 2#3 *", "0 0 0 1 1 ? 2030", "0 0 0 30 2 ? *");
+    private static final long OPENED = 1_600_000_000L;
+    private static final long REOPENED = 1_900_000_000L;
+
+    private final CronParser parser = new CronParser();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void computesEntriesOnFirstAccess() throws IOException {
+        try (CronScheduleFile file = CronScheduleFile.open(directory.resolve("schedules"), EXPRESSIONS, parser, OPENED)) {
+            assertEquals(0, file.getRecomputeCount());
+            assertEquals(parser.parse(EXPRESSIONS.get(2)).nextFireEpochSecond(OPENED), file.getNextFireEpochSecond(2));
+            assertEquals(1, file.getRecomputeCount());
+            assertEquals(EXPRESSIONS.size() - 1, file.validateAll());
+            assertEquals(0, file.validateAll());
+            for (int id = 0; id < EXPRESSIONS.size(); id++) {
+                assertEquals(parser.parse(EXPRESSIONS.get(id)).nextFireEpochSecond(OPENED), file.getNextFireEpochSecond(id));
+                assertArrayEquals(CronEncoding.encode(parser.parse(EXPRESSIONS.get(id))), file.getEncoded(id));
+            }
+        }
+    }
+
+    @Test
+    void refreshesStaleNextFiresAgainstOpenInstant() throws IOException {
+        Path path = directory.resolve("schedules");
+        long advanced;
+        try (CronScheduleFile file = CronScheduleFile.open(path, EXPRESSIONS, parser, OPENED)) {
+            assertEquals(EXPRESSIONS.size(), file.validateAll());
+            advanced = file.advance(1);
+            file.setNextFireEpochSecond(0, parser.parse(EXPRESSIONS.get(0)).nextFireEpochSecond(REOPENED + 86_400));
+        }
+        try (CronScheduleFile file = CronScheduleFile.open(path, EXPRESSIONS, parser, OPENED)) {
+            assertEquals(advanced, file.getNextFireEpochSecond(1));
+            assertEquals(0, file.validateAll());
+        }
+        try (CronScheduleFile file = CronScheduleFile.open(path, EXPRESSIONS, parser, REOPENED)) {
+            assertEquals(parser.parse(EXPRESSIONS.get(0)).nextFireEpochSecond(REOPENED + 86_400), file.getNextFireEpochSecond(0));
+            for (int id = 1; id < EXPRESSIONS.size(); id++) {
+                assertEquals(parser.parse(EXPRESSIONS.get(id)).nextFireEpochSecond(REOPENED), file.getNextFireEpochSecond(id));
+            }
+            assertEquals(3, file.getRecomputeCount());
+        }
+    }
+
+    @Test
+    void recomputesCorruptedEntries() throws IOException {
+        Path path = directory.resolve("schedules");
+        try (CronScheduleFile file = CronScheduleFile.open(path, EXPRESSIONS, parser, OPENED)) {
+            file.validateAll();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), 64 + 20);
+        }
+        try (CronScheduleFile file = CronScheduleFile.open(path, EXPRESSIONS, parser, OPENED)) {
+            assertEquals(1, file.validateAll());
+            assertArrayEquals(CronEncoding.encode(parser.parse(EXPRESSIONS.get(0))), file.getEncoded(0));
+        }
+    }
+
+    @Test
+    void reportsBadExpressionsWithoutFailingOpen() throws IOException {
+        List<String> expressions = List.of("0 0 0 * * ? *", "0 0 25 * * ? *", "0 0 12 * * ? *", "x");
+        try (CronScheduleFile file = CronScheduleFile.open(directory.resolve("schedules"), expressions, parser, OPENED)) {
+            assertEquals(parser.parse(expressions.get(0)).nextFireEpochSecond(OPENED), file.getNextFireEpochSecond(0));
+            assertEquals(NO_FIRE, file.getNextFireEpochSecond(1));
+            assertEquals(NO_FIRE, file.advance(1));
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> file.getEncoded(1));
+            assertTrue(e.getMessage().contains("schedule 1"), e.getMessage());
+            assertArrayEquals(new int[]{1, 3}, file.invalidEntries());
+            e = assertThrows(IllegalArgumentException.class, file::validateAll);
+            assertTrue(e.getMessage().contains("schedule 1"), e.getMessage());
+            assertEquals(parser.parse(expressions.get(2)).nextFireEpochSecond(OPENED), file.getNextFireEpochSecond(2));
+        }
+    }
+
+    @Test
+    void validatesWrites() throws IOException {
+        try (CronScheduleFile file = CronScheduleFile.open(directory.resolve("schedules"), EXPRESSIONS, parser, OPENED)) {
+            long next = file.getNextFireEpochSecond(3);
+            assertThrows(IllegalArgumentException.class, () -> file.setNextFireEpochSecond(3, next + 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> file.getNextFireEpochSecond(EXPRESSIONS.size()));
+            assertEquals(NO_FIRE, file.advance(3));
+            assertEquals(NO_FIRE, file.advance(3));
+            assertEquals(NO_FIRE, file.getNextFireEpochSecond(4));
+            file.setNextFireEpochSecond(3, next);
+            assertEquals(next, file.getNextFireEpochSecond(3));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.jw.cronparser.store;
+
+import static com.jw.cronparser.searcher.CronSearcher.NO_FIRE;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.jw.cronparser.CronParser;
+import com.jw.cronparser.domain.CronEncoding;
+import com.jw.cronparser.domain.CronObject;
+
+class CronScheduleStoreTest {
+
+    private static final String[] EXPRESSIONS = {
+            "0 0 0 12,13,16 * ? *", "* * * * * ? *", "0 0 0 29 2 ? *", "0 0/15 * * * ? *", "30 10 8 L * ? *", "0 0 12 LW * ? *",
+            "0 0 12 15W * ? *", "0 0 12 L-3 * ? *", "0 0 12 ? * 6L *", "0 0 12 ? * 2#3 *", "0 0 12 ? * MON-FRI *",
+            "15,45 5-10/2 1-3 1-10 JAN-MAR,SEP ? 2020-2030", "0 0 0 30 2 ? *", "0 0 0 1 1 ? 2050", "59 59 23 31 12 ? 2099/1",
+            "0/7 0/13 0/5 1/3 1/4 ? *", "10-20/5 * 4 8-12 * ? 1999,2003,2077"
+    };
+    private static final long MIN = -2_300_000_000L;
+    private static final long RANGE = 6_000_000_000L;
+
+    private final CronParser parser = new CronParser();
+
+    @Test
+    void searchesLikeCronObjects() {
+        CronScheduleStore store = new CronScheduleStore(2);
+        List<CronObject> cronObjects = new ArrayList<>();
+        for (String expression : EXPRESSIONS) {
+            cronObjects.add(parser.parse(expression));
+        }
+        int[] ids = store.addAll(cronObjects);
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            int index = random.nextInt(ids.length);
+            CronObject cronObject = cronObjects.get(index);
+            long epochSecond = MIN + (long) (random.nextDouble() * RANGE);
+            assertEquals(cronObject.nextFireEpochSecond(epochSecond), store.nextFireEpochSecond(ids[index], epochSecond), cronObject.getExpression());
+            assertEquals(cronObject.previousFireEpochSecond(epochSecond), store.previousFireEpochSecond(ids[index], epochSecond), cronObject.getExpression());
+            assertEquals(cronObject.previousFireEpochSecond(epochSecond) == epochSecond, store.matches(ids[index], epochSecond));
+            long fire = cronObject.nextFireEpochSecond(epochSecond);
+            if (fire != NO_FIRE) {
+                assertTrue(store.matches(ids[index], fire));
+            }
+        }
+    }
+
+    @Test
+    void concurrentLookupsMatchCronObjects() {
+        CronScheduleStore store = new CronScheduleStore(2);
+        List<CronObject> cronObjects = new ArrayList<>();
+        for (String expression : EXPRESSIONS) {
+            cronObjects.add(parser.parse(expression));
+        }
+        int[] ids = store.addAll(cronObjects);
+        long mismatches = IntStream.range(0, 200_000).parallel().filter(i -> {
+            int index = i % ids.length;
+            CronObject cronObject = cronObjects.get(index);
+            long epochSecond = MIN + i * (RANGE / 200_000);
+            return cronObject.nextFireEpochSecond(epochSecond) != store.nextFireEpochSecond(ids[index], epochSecond)
+                    || cronObject.previousFireEpochSecond(epochSecond) != store.previousFireEpochSecond(ids[index], epochSecond)
+                    || (cronObject.previousFireEpochSecond(epochSecond) == epochSecond) != store.matches(ids[index], epochSecond);
+        }).count();
+        assertEquals(0, mismatches);
+    }
+
+    @Test
+    void encodedSlotsKeepBounds() {
+        CronScheduleStore store = new CronScheduleStore();
+        CronObject cronObject = parser.parse("0 0 0 1 1 ? 2050");
+        int id = store.add(CronEncoding.encode(cronObject), 0);
+        int unsatisfiable = store.add(CronEncoding.encode(parser.parse("0 0 0 30 2 ? *")), 0);
+        assertEquals(cronObject.getFirstFireEpochSecond(), store.nextFireEpochSecond(id, Long.MIN_VALUE + 1));
+        assertEquals(cronObject.getLastFireEpochSecond(), store.previousFireEpochSecond(id, Long.MAX_VALUE));
+        assertEquals(NO_FIRE, store.nextFireEpochSecond(unsatisfiable, 0));
+        assertEquals(NO_FIRE, store.previousFireEpochSecond(unsatisfiable, 0));
+        assertArrayEquals(new int[]{id}, store.matching(cronObject.getFirstFireEpochSecond()));
+    }
+
+    @Test
+    void reusesRemovedSlots() {
+        CronScheduleStore store = new CronScheduleStore(1);
+        int first = store.add(parser.parse("0 0 0 * * ? *"));
+        int second = store.add(parser.parse("0 0 12 * * ? *"));
+        assertTrue(store.remove(first));
+        assertFalse(store.remove(first));
+        assertThrows(NoSuchElementException.class, () -> store.nextFireEpochSecond(first, 0));
+        int third = store.add(parser.parse("0 30 12 * * ? *"));
+        assertEquals(first, third);
+        assertEquals(2, store.size());
+        assertArrayEquals(new int[]{first, second}, store.ids().toArray());
+        assertArrayEquals(CronEncoding.encode(parser.parse("0 30 12 * * ? *")), store.getEncoded(third));
+    }
+
+    @Test
+    void queriesDoNotAllocate() {
+        CronScheduleStore store = new CronScheduleStore();
+        int[] ids = new int[EXPRESSIONS.length];
+        for (int i = 0; i < EXPRESSIONS.length; i++) {
+            ids[i] = store.add(parser.parse(EXPRESSIONS[i]));
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long sink = query(store, ids, 1_000);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        sink += query(store, ids, 100_000);
+        long after = threads.getThreadAllocatedBytes(threadId);
+        assertNotEquals(0, sink);
+        assertTrue(after - before < 100_000, "Allocated " + (after - before) + " bytes");
+    }
+
+    private static long query(CronScheduleStore store, int[] ids, int count) {
+        long sink = 0;
+        for (int i = 0; i < count; i++) {
+            int id = ids[i % ids.length];
+            long epochSecond = i * 7919L;
+            sink += store.nextFireEpochSecond(id, epochSecond) + store.previousFireEpochSecond(id, epochSecond);
+            sink += store.matches(id, epochSecond) ? 1 : 0;
+        }
+        return sink;
+    }
+}